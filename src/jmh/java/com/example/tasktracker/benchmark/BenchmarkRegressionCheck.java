@@ -0,0 +1,78 @@
+package com.example.tasktracker.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result against a baseline from a previous release and exits with status 1
+ * if any benchmark got slower by more than the threshold percentage. Throughput benchmarks
+ * regress when the score drops; time-per-operation benchmarks regress when it rises.
+ * <p>
+ * Usage: {@code BenchmarkRegressionCheck <baseline.json> <current.json> [thresholdPercent]}
+ */
+public final class BenchmarkRegressionCheck {
+
+    private BenchmarkRegressionCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkRegressionCheck <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("NEW         %-70s %12.3f %s%n", entry.getKey(), after.score(), after.unit());
+                continue;
+            }
+            double change = (after.score() - before.score()) / before.score() * 100;
+            // Positive slowdown means worse, whichever direction the mode measures.
+            double slowdown = after.throughput() ? -change : change;
+            boolean regressed = slowdown > threshold;
+            regressions += regressed ? 1 : 0;
+            System.out.printf("%-11s %-70s %12.3f -> %12.3f %s (%+.1f%%)%n",
+                    regressed ? "REGRESSION" : "ok", entry.getKey(), before.score(), after.score(), after.unit(), change);
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(path.toFile())) {
+            String key = run.get("benchmark").asText() + params(run.get("params")) + " [" + run.get("mode").asText() + "]";
+            JsonNode metric = run.get("primaryMetric");
+            results.put(key, new Result(metric.get("score").asDouble(), metric.get("scoreUnit").asText(),
+                    "thrpt".equals(run.get("mode").asText())));
+        }
+        return results;
+    }
+
+    private static String params(JsonNode params) {
+        if (params == null) {
+            return "";
+        }
+        StringBuilder suffix = new StringBuilder();
+        params.properties().forEach(param -> suffix.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+        return suffix.toString();
+    }
+
+    private record Result(double score, String unit, boolean throughput) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.tasktracker.benchmark;
+
+import com.example.tasktracker.model.Role;
+import com.example.tasktracker.model.User;
+import com.example.tasktracker.security.JwtClaims;
+import com.example.tasktracker.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens/sec for generating and validating JWTs. The {@code legacy*} benchmarks reproduce the
+ * previous JwtService behaviour (key decoded and parser built per call, three parses per
+ * validation) as a baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "bXktc2VjcmV0LWtleS1mb3ItanNvbi13ZWItdG9rZW4tcHJvamVjdA==";
+    private static final long EXPIRATION_MS = 86_400_000L;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, "primary", EXPIRATION_MS);
+        user = new User("manager1@example.com", "password", Role.MANAGER);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public JwtClaims validate() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public String legacyGenerate() {
+        return Jwts.builder()
+                .setClaims(Map.of("roles", user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList()))
+                .setSubject(user.getUsername())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
+                .signWith(legacySignInKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean legacyValidate() {
+        String username = legacyParse(token).getSubject();
+        return legacyParse(token).getSubject().equals(username)
+                && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacySignInKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static Key legacySignInKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
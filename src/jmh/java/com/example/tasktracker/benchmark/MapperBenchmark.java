@@ -0,0 +1,82 @@
+package com.example.tasktracker.benchmark;
+
+import com.example.tasktracker.dto.project.ProjectResponseDto;
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.mapper.ProjectMapper;
+import com.example.tasktracker.mapper.ProjectMapperImpl;
+import com.example.tasktracker.mapper.TaskMapper;
+import com.example.tasktracker.mapper.TaskMapperImpl;
+import com.example.tasktracker.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping with the MapStruct-generated mappers, for a single entity and for a
+ * 50-row page as the list endpoints map it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+    private Project project;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        User owner = new User("manager1@example.com", "password", Role.MANAGER);
+        owner.setId(1L);
+        project = new Project();
+        project.setId(1L);
+        project.setName("Benchmark Project");
+        project.setDescription("Project used by the mapper benchmark");
+        project.setOwner(owner);
+        project.setCreateDate(LocalDateTime.now());
+        project.setUpdateDate(LocalDateTime.now());
+        project.setVersion(0L);
+
+        tasks = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Benchmark Task " + i);
+            task.setDescription("Description for benchmark task " + i);
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setDueDate(LocalDate.now().plusDays(i));
+            task.setProject(project);
+            task.setAssignedUser(owner);
+            task.setCreateDate(LocalDateTime.now());
+            task.setUpdateDate(LocalDateTime.now());
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+    }
+
+    @Benchmark
+    public TaskResponseDto taskToDto() {
+        return taskMapper.toDto(tasks.get(0));
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> taskPageToDto() {
+        return tasks.stream().map(taskMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public ProjectResponseDto projectToDto() {
+        return projectMapper.toDto(project);
+    }
+}
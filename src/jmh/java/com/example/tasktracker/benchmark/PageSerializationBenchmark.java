@@ -0,0 +1,56 @@
+package com.example.tasktracker.benchmark;
+
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a {@code Page<TaskResponseDto>} as returned by the task list
+ * endpoint, using an ObjectMapper configured the way Spring Boot configures the MVC one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<TaskResponseDto> tasks = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            tasks.add(new TaskResponseDto((long) i, "Benchmark Task " + i, "Description for benchmark task " + i,
+                    TaskStatus.values()[i % TaskStatus.values().length],
+                    TaskPriority.values()[i % TaskPriority.values().length],
+                    LocalDate.now().plusDays(i), 1L, 2L, LocalDateTime.now(), LocalDateTime.now(), 0L));
+        }
+        page = new PageImpl<>(tasks, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
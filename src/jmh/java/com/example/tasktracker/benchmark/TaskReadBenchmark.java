@@ -0,0 +1,106 @@
+package com.example.tasktracker.benchmark;
+
+import com.example.tasktracker.Application;
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.mapper.TaskMapper;
+import com.example.tasktracker.model.*;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.repository.TaskSpecification;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths for tasks against an in-memory database: managed entities mapped with
+ * {@link TaskMapper} (the previous implementation) vs constructor-expression projections.
+ * Run with {@code -Djmh.args="TaskReadBenchmark -prof gc"} to compare allocations per call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskReadBenchmark {
+
+    private static final int TASK_COUNT = 2_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TaskMapper taskMapper;
+    private TransactionTemplate readOnlyTransaction;
+    private Specification<Task> spec;
+    private Pageable pageable;
+    private Long taskId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:task-read-benchmark",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        taskRepository = context.getBean(TaskRepository.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        Project project = context.getBean(ProjectRepository.class).findAll().get(0);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark Task " + i);
+            task.setDescription("Description for benchmark task " + i);
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setProject(project);
+            task.setAssignedUser(project.getOwner());
+            tasks.add(task);
+        }
+        taskId = taskRepository.saveAll(tasks).get(0).getId();
+
+        spec = TaskSpecification.build(project.getId(), null, null);
+        pageable = PageRequest.of(1, 50, Sort.by("createDate"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponseDto> pageOfEntities() {
+        return readOnlyTransaction.execute(status -> taskRepository.findAll(spec, pageable).map(taskMapper::toDto));
+    }
+
+    @Benchmark
+    public Page<TaskResponseDto> pageOfProjections() {
+        return readOnlyTransaction.execute(status -> taskRepository.findResponseDtos(spec, pageable));
+    }
+
+    @Benchmark
+    public TaskResponseDto entityById() {
+        return readOnlyTransaction.execute(status -> taskMapper.toDto(taskRepository.findById(taskId).orElseThrow()));
+    }
+
+    @Benchmark
+    public TaskResponseDto projectionById() {
+        return readOnlyTransaction.execute(status -> taskRepository.findResponseDtoById(taskId).orElseThrow());
+    }
+}
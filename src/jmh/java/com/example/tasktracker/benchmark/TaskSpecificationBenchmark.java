@@ -0,0 +1,69 @@
+package com.example.tasktracker.benchmark;
+
+import com.example.tasktracker.Application;
+import com.example.tasktracker.model.Task;
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+import com.example.tasktracker.repository.TaskSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning the list filters into a criteria predicate, which the list endpoints pay on
+ * every request before any SQL is generated. Each call builds a fresh query and root, as a
+ * request does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSpecificationBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:task-specification-benchmark",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        criteriaBuilder = context.getBean(EntityManagerFactory.class).getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Predicate projectOnly() {
+        return toPredicate(null, null);
+    }
+
+    @Benchmark
+    public Predicate allFilters() {
+        return toPredicate(TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+    }
+
+    private Predicate toPredicate(TaskStatus status, TaskPriority priority) {
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        return TaskSpecification.build(1L, status, priority).toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.tasktracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Async} and {@code @Scheduled}. The auto-configured executor and scheduler
+ * run on virtual threads when {@code spring.threads.virtual.enabled=true}, like Tomcat.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,273 @@
+package com.example.tasktracker.config;
+
+import com.example.tasktracker.model.Role;
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+import com.example.tasktracker.service.ProjectStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a large, reproducible dataset for capacity testing when {@code app.seed.tasks} is
+ * greater than zero. The same {@code app.seed.random-seed} and {@code app.seed.base-date}
+ * always produce the same users, projects and tasks.
+ * <p>
+ * Rows are written with plain JDBC in chunks of {@code app.seed.batch-size}, one transaction
+ * per chunk: batched inserts in general and {@code COPY} on PostgreSQL. Task ids are reserved
+ * from {@code tasks_seq} one allocation block at a time, so Hibernate never hands out an id
+ * the seeder used. The project statistics counters are reconciled afterwards. Seeding is
+ * skipped if the seed users already exist.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class BulkDataSeeder implements CommandLineRunner {
+
+    static final String SEED_PASSWORD = "password123";
+
+    // Must match the allocationSize of the tasks_seq generator on Task.
+    private static final int TASK_ID_BLOCK = 50;
+    private static final int MANAGER_EVERY = 10;
+    private static final String[] VERBS = {"Design", "Implement", "Review", "Test", "Document", "Refactor",
+            "Fix", "Migrate", "Deploy", "Benchmark", "Profile", "Audit"};
+    private static final String[] NOUNS = {"login page", "search index", "billing export", "audit log",
+            "notification service", "report builder", "user settings", "project dashboard", "API gateway",
+            "cache layer", "database schema", "mobile layout", "payment webhook", "onboarding flow"};
+    private static final String[] DETAILS = {"before the next release", "for the enterprise tier",
+            "after the incident review", "to cut p99 latency", "behind a feature flag", "for the EU region",
+            "with the new design system", "to unblock the mobile team"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ProjectStatsService projectStatsService;
+    private final int userCount;
+    private final int projectCount;
+    private final long taskCount;
+    private final int batchSize;
+    private final long randomSeed;
+    private final String baseDate;
+
+    public BulkDataSeeder(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PasswordEncoder passwordEncoder,
+            ProjectStatsService projectStatsService,
+            @Value("${app.seed.users}") int userCount,
+            @Value("${app.seed.projects}") int projectCount,
+            @Value("${app.seed.tasks}") long taskCount,
+            @Value("${app.seed.batch-size}") int batchSize,
+            @Value("${app.seed.random-seed}") long randomSeed,
+            @Value("${app.seed.base-date:}") String baseDate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.projectStatsService = projectStatsService;
+        this.userCount = userCount;
+        this.projectCount = projectCount;
+        this.taskCount = taskCount;
+        this.batchSize = batchSize;
+        this.randomSeed = randomSeed;
+        this.baseDate = baseDate;
+    }
+
+    static String userEmail(int index) {
+        return "seed-user-" + index + "@example.com";
+    }
+
+    static boolean isManager(int index) {
+        return index % MANAGER_EVERY == 0;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (taskCount <= 0) {
+            return;
+        }
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from users where email = ?", Integer.class, userEmail(0));
+        if (existing != null && existing > 0) {
+            log.info("Seed data already present, skipping bulk seeding.");
+            return;
+        }
+
+        long started = System.nanoTime();
+        Random random = new Random(randomSeed);
+        LocalDate today = baseDate.isBlank() ? LocalDate.now() : LocalDate.parse(baseDate);
+        LocalDateTime now = today.atStartOfDay();
+        boolean postgres = "PostgreSQL".equals(jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName()));
+
+        List<Long> userIds = seedUsers(now);
+        List<Long> managerIds = new ArrayList<>();
+        List<Long> assigneeIds = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            (isManager(i) ? managerIds : assigneeIds).add(userIds.get(i));
+        }
+        List<Long> projectIds = seedProjects(random, managerIds, now);
+        seedTasks(random, projectIds, assigneeIds, today, now, postgres);
+        // Seeded tasks bypass the task service, so the statistics counters are rebuilt from them.
+        projectStatsService.reconcile();
+
+        log.info("Seeded {} users, {} projects and {} tasks in {} ms", userIds.size(), projectIds.size(), taskCount,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<Long> seedUsers(LocalDateTime now) {
+        // One hash for every seed user: BCrypt per row would dominate the seeding time.
+        String hash = passwordEncoder.encode(SEED_PASSWORD);
+        Timestamp createDate = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            Role role = isManager(i) ? Role.MANAGER : Role.USER;
+            rows.add(new Object[]{userEmail(i), hash, role.name(), createDate, createDate});
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "insert into users (email, password, role, token_version, create_date, update_date) values (?, ?, ?, 0, ?, ?)",
+                rows));
+        return jdbcTemplate.queryForList(
+                "select id from users where email like 'seed-user-%' order by id", Long.class);
+    }
+
+    private List<Long> seedProjects(Random random, List<Long> managerIds, LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            Timestamp createDate = Timestamp.valueOf(now.minusMinutes(random.nextInt(525_600)));
+            rows.add(new Object[]{"Seed Project " + i, "Seeded project " + i + " " + pick(random, DETAILS),
+                    managerIds.get(i % managerIds.size()), createDate, createDate});
+        }
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "insert into projects (name, description, owner_id, create_date, update_date) values (?, ?, ?, ?, ?)",
+                    chunk));
+        }
+        return jdbcTemplate.queryForList(
+                "select id from projects where name like 'Seed Project %' order by id", Long.class);
+    }
+
+    private void seedTasks(Random random, List<Long> projectIds, List<Long> assigneeIds, LocalDate today,
+                           LocalDateTime now, boolean postgres) {
+        long seeded = 0;
+        long nextLog = 1_000_000;
+        while (seeded < taskCount) {
+            int chunkSize = (int) Math.min(batchSize, taskCount - seeded);
+            List<Long> ids = reserveTaskIds(chunkSize, postgres);
+            List<Object[]> rows = new ArrayList<>(chunkSize);
+            for (Long id : ids) {
+                rows.add(taskRow(random, id, projectIds, assigneeIds, today, now));
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                if (postgres) {
+                    copyTasks(rows);
+                } else {
+                    jdbcTemplate.batchUpdate("insert into tasks (id, title, description, status, priority, due_date, "
+                            + "project_id, assigned_user_id, create_date, update_date) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+                }
+            });
+            seeded += chunkSize;
+            if (seeded >= nextLog) {
+                log.info("Seeded {} of {} tasks", seeded, taskCount);
+                nextLog += 1_000_000;
+            }
+        }
+    }
+
+    private Object[] taskRow(Random random, long id, List<Long> projectIds, List<Long> assigneeIds,
+                             LocalDate today, LocalDateTime now) {
+        // Squaring skews tasks towards low project indexes, so a few projects are much larger than most.
+        Long projectId = projectIds.get((int) (projectIds.size() * Math.pow(random.nextDouble(), 2)));
+        Long assigneeId = random.nextInt(5) == 0 ? null : assigneeIds.get(random.nextInt(assigneeIds.size()));
+        String noun = pick(random, NOUNS);
+        Timestamp createDate = Timestamp.valueOf(now.minusMinutes(random.nextInt(525_600)));
+        Date dueDate = random.nextInt(4) == 0 ? null : Date.valueOf(today.plusDays(random.nextInt(120) - 30));
+        return new Object[]{
+                id,
+                pick(random, VERBS) + " the " + noun,
+                "Work on the " + noun + " " + pick(random, DETAILS) + ".",
+                TaskStatus.values()[random.nextInt(TaskStatus.values().length)].name(),
+                TaskPriority.values()[random.nextInt(TaskPriority.values().length)].name(),
+                dueDate,
+                projectId,
+                assigneeId,
+                createDate,
+                createDate};
+    }
+
+    /**
+     * Claims whole blocks of {@code tasks_seq}. Hibernate's pooled optimizer treats a sequence
+     * value {@code v} as the block ending at {@code v}, so ids in a block claimed here are never
+     * generated by the application. The first blocks are skipped to stay clear of the
+     * optimizer's start-up edge case.
+     */
+    private List<Long> reserveTaskIds(int count, boolean postgres) {
+        int blocks = (count + TASK_ID_BLOCK - 1) / TASK_ID_BLOCK + 1;
+        String sql = postgres
+                ? "select nextval('tasks_seq') from generate_series(1, ?)"
+                : "select next value for tasks_seq from system_range(1, ?)";
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockEnd : jdbcTemplate.queryForList(sql, Long.class, blocks)) {
+            if (blockEnd <= 2L * TASK_ID_BLOCK) {
+                continue;
+            }
+            for (long id = blockEnd - TASK_ID_BLOCK + 1; id <= blockEnd && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        if (ids.size() < count) {
+            ids.addAll(reserveTaskIds(count - ids.size(), postgres));
+        }
+        return ids;
+    }
+
+    private void copyTasks(List<Object[]> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 160);
+        for (Object[] row : rows) {
+            for (int column = 0; column < row.length; column++) {
+                if (column > 0) {
+                    csv.append(',');
+                }
+                Object value = row[column];
+                if (value instanceof String text) {
+                    csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    csv.append(value);
+                }
+            }
+            csv.append('\n');
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "copy tasks (id, title, description, status, priority, due_date, project_id, assigned_user_id, "
+                                + "create_date, update_date) from stdin with (format csv)",
+                        new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new SQLException("COPY into tasks failed", e);
+            }
+        });
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -1,16 +1,20 @@
 package com.example.tasktracker.controller;
 
+import com.example.tasktracker.dto.user.RefreshTokenRequestDto;
 import com.example.tasktracker.dto.user.UserLoginRequestDto;
 import com.example.tasktracker.dto.user.UserLoginResponseDto;
 import com.example.tasktracker.dto.user.UserRegistrationRequestDto;
 import com.example.tasktracker.dto.user.UserResponseDto;
 import com.example.tasktracker.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -32,9 +36,26 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    @Operation(summary = "Log in a user", description = "Authenticates a user and returns a JWT")
-    public ResponseEntity<UserLoginResponseDto> login(@RequestBody @Valid UserLoginRequestDto requestDto) {
-        UserLoginResponseDto responseDto = userService.login(requestDto);
+    @Operation(summary = "Log in a user", description = "Authenticates a user and returns a short-lived JWT and a refresh token. Repeated failures for an account or client address are throttled with 429.")
+    public ResponseEntity<UserLoginResponseDto> login(@RequestBody @Valid UserLoginRequestDto requestDto,
+                                                      HttpServletRequest request) {
+        UserLoginResponseDto responseDto = userService.login(requestDto, request.getRemoteAddr());
         return ResponseEntity.ok(responseDto);
     }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh an access token", description = "Exchanges a refresh token for a new access token and a new refresh token. Each refresh token can be used once; reusing one revokes the whole session.")
+    public ResponseEntity<UserLoginResponseDto> refresh(@RequestBody @Valid RefreshTokenRequestDto requestDto) {
+        UserLoginResponseDto responseDto = userService.refresh(requestDto);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    @PostMapping("/logout")
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Log out a user", description = "Revokes every access and refresh token issued to the current user")
+    public ResponseEntity<Void> logout() {
+        userService.logout();
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -1,20 +1,42 @@
 package com.example.tasktracker.controller;
 
+import com.example.tasktracker.dto.CursorPageDto;
 import com.example.tasktracker.dto.project.CreateProjectRequestDto;
 import com.example.tasktracker.dto.project.ProjectResponseDto;
-import com.example.tasktracker.model.User;
+import com.example.tasktracker.dto.project.ProjectStatsDto;
+import com.example.tasktracker.security.AuthenticatedUser;
+import com.example.tasktracker.service.IdempotencyService;
+import com.example.tasktracker.service.IdempotentResult;
 import com.example.tasktracker.service.ProjectService;
+import com.example.tasktracker.service.ProjectStatsService;
+import com.example.tasktracker.service.TaskEventStreamService;
+import com.example.tasktracker.util.ConditionalRequests;
+import com.example.tasktracker.util.IdempotentResponses;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Tag(name = "Project Management", description = "Endpoints for managing projects")
@@ -25,41 +47,107 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectStatsService projectStatsService;
+    private final TaskEventStreamService taskEventStreamService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Create a new project", description = "Creates a new project owned by the current manager. Requires MANAGER role.")
+    @Operation(summary = "Create a new project", description = "Creates a new project owned by the current manager. A repeated Idempotency-Key replays the first response instead of creating another project. Requires MANAGER role.")
     public ResponseEntity<ProjectResponseDto> createProject(
             @RequestBody @Valid CreateProjectRequestDto requestDto,
-            @AuthenticationPrincipal User user) {
-        ProjectResponseDto createdProject = projectService.createProject(requestDto, user);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdProject);
+            @RequestHeader(value = IdempotentResponses.HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        IdempotentResult<ProjectResponseDto> result = idempotencyService.execute(idempotencyKey, "POST /api/projects", requestDto,
+                HttpStatus.CREATED.value(), ProjectResponseDto.class, () -> projectService.createProject(requestDto, user));
+        return IdempotentResponses.toResponseEntity(result);
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
-    @Operation(summary = "Get all projects", description = "Retrieves a list of all projects. Requires MANAGER or ADMIN role.")
-    public ResponseEntity<List<ProjectResponseDto>> getAllProjects() {
-        List<ProjectResponseDto> projects = projectService.getAllProjects();
+    @Operation(summary = "Get all projects", description = "Retrieves a paginated list of all projects. Requires MANAGER or ADMIN role.")
+    public ResponseEntity<Page<ProjectResponseDto>> getAllProjects(
+            @Parameter(hidden = true) @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        Page<ProjectResponseDto> projects = projectService.getAllProjects(pageable);
         return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    @Operation(summary = "Get all projects using a cursor", description = "Retrieves projects in id order using keyset pagination. Pass nextCursor from the previous response as afterId to fetch the following page. Requires MANAGER or ADMIN role.")
+    public ResponseEntity<CursorPageDto<ProjectResponseDto>> getProjectsAfter(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDto<ProjectResponseDto> projects = projectService.getProjectsAfter(afterId, size);
+        return ResponseEntity.ok(projects);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream all projects", description = "Streams every project as newline-delimited JSON, one object per line, without buffering the result set. Requires ADMIN role.")
+    public ResponseEntity<StreamingResponseBody> streamAllProjects() {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> projectService.streamAllProjects(project -> {
+            try {
+                writer.writeValue(outputStream, project);
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    @Operation(summary = "Get task statistics for several projects", description = "Retrieves task counts by status and priority plus the overdue count for each of the given projects. Unknown ids are skipped. Requires MANAGER or ADMIN role.")
+    public ResponseEntity<List<ProjectStatsDto>> getProjectStats(@RequestParam List<Long> ids) {
+        List<ProjectStatsDto> stats = projectStatsService.getProjectStats(ids);
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    @Operation(summary = "Get task statistics for a project", description = "Retrieves task counts by status and priority plus the overdue count for a project. Requires MANAGER or ADMIN role.")
+    public ResponseEntity<ProjectStatsDto> getProjectStats(@PathVariable Long id) {
+        ProjectStatsDto stats = projectStatsService.getProjectStats(id);
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Subscribe to task changes in a project", description = "Streams task created, updated, status_changed and deleted events for a project as Server-Sent Events. Reconnect with Last-Event-ID to replay recent events; a resync event means some were missed and the task list should be reloaded. Requires authentication.")
+    public SseEmitter subscribeToProjectEvents(
+            @PathVariable Long id,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskEventStreamService.subscribe(id, lastEventId);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
-    @Operation(summary = "Get a project by ID", description = "Retrieves a single project by its ID. Requires MANAGER or ADMIN role.")
-    public ResponseEntity<ProjectResponseDto> getProjectById(@PathVariable Long id) {
+    @Operation(summary = "Get a project by ID", description = "Retrieves a single project by its ID. Supports If-None-Match and If-Modified-Since. Requires MANAGER or ADMIN role.")
+    public ResponseEntity<ProjectResponseDto> getProjectById(
+            @PathVariable Long id,
+            @Parameter(hidden = true) ServletWebRequest request) {
+        // Reading the version alone would load the same entity, so the DTO is fetched once.
         ProjectResponseDto project = projectService.getProjectById(id);
+        if (ConditionalRequests.checkNotModified(request, ConditionalRequests.etag(id, project.getVersion()), project.getUpdateDate())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(project);
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Update a project", description = "Updates an existing project. Requires MANAGER role.")
+    @Operation(summary = "Update a project", description = "Updates an existing project. Send the project's ETag in If-Match to reject the update with 412 if the project changed since it was read. Requires MANAGER role.")
     public ResponseEntity<ProjectResponseDto> updateProject(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid CreateProjectRequestDto requestDto) {
-        ProjectResponseDto updatedProject = projectService.updateProject(id, requestDto);
-        return ResponseEntity.ok(updatedProject);
+        Long expectedVersion = ConditionalRequests.expectedVersion(ifMatch, id);
+        ProjectResponseDto updatedProject = projectService.updateProject(id, requestDto, expectedVersion);
+        return ResponseEntity.ok().eTag(ConditionalRequests.etag(id, updatedProject.getVersion())).body(updatedProject);
     }
 
     @DeleteMapping("/{id}")
@@ -1,9 +1,18 @@
 package com.example.tasktracker.controller;
 
+import com.example.tasktracker.dto.CursorPageDto;
 import com.example.tasktracker.dto.task.*;
 import com.example.tasktracker.model.TaskPriority;
 import com.example.tasktracker.model.TaskStatus;
+import com.example.tasktracker.repository.TaskListPage;
+import com.example.tasktracker.repository.TaskListVersion;
+import com.example.tasktracker.repository.VersionStamp;
+import com.example.tasktracker.service.IdempotencyService;
+import com.example.tasktracker.service.IdempotentResult;
+import com.example.tasktracker.service.TaskSearchService;
 import com.example.tasktracker.service.TaskService;
+import com.example.tasktracker.util.ConditionalRequests;
+import com.example.tasktracker.util.IdempotentResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,10 +22,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
 
 @Tag(name = "Task Management", description = "Endpoints for managing tasks within projects")
 @RestController
@@ -26,56 +39,131 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskSearchService taskSearchService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Create a new task", description = "Creates a new task within a project. Requires MANAGER role.")
-    public ResponseEntity<TaskResponseDto> createTask(@RequestBody @Valid CreateTaskRequestDto requestDto) {
-        TaskResponseDto createdTask = taskService.createTask(requestDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
+    @Operation(summary = "Create a new task", description = "Creates a new task within a project. A repeated Idempotency-Key replays the first response instead of creating another task. Requires MANAGER role.")
+    public ResponseEntity<TaskResponseDto> createTask(
+            @RequestBody @Valid CreateTaskRequestDto requestDto,
+            @RequestHeader(value = IdempotentResponses.HEADER, required = false) String idempotencyKey) {
+        IdempotentResult<TaskResponseDto> result = idempotencyService.execute(idempotencyKey, "POST /api/tasks", requestDto,
+                HttpStatus.CREATED.value(), TaskResponseDto.class, () -> taskService.createTask(requestDto));
+        return IdempotentResponses.toResponseEntity(result);
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Create tasks in bulk", description = "Creates up to 500 tasks in one transaction and returns a result per item. A repeated Idempotency-Key replays the first response. Requires MANAGER role.")
+    public ResponseEntity<List<TaskBatchResultDto>> createTasks(
+            @RequestBody @Valid BatchCreateTaskRequestDto requestDto,
+            @RequestHeader(value = IdempotentResponses.HEADER, required = false) String idempotencyKey) {
+        IdempotentResult<List<TaskBatchResultDto>> results = idempotencyService.executeForList(idempotencyKey, "POST /api/tasks/batch", requestDto,
+                HttpStatus.OK.value(), TaskBatchResultDto.class, () -> taskService.createTasks(requestDto.getTasks()));
+        return IdempotentResponses.toResponseEntity(results);
     }
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Get tasks by project", description = "Retrieves a paginated and filtered list of tasks for a specific project. Requires authentication.")
+    @Operation(summary = "Get tasks by project", description = "Retrieves a paginated and filtered list of tasks for a specific project. Supports If-None-Match. Requires authentication.")
     public ResponseEntity<Page<TaskResponseDto>> getTasksByProject(
             @PathVariable Long projectId,
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) TaskPriority priority,
-            @Parameter(hidden = true) @PageableDefault(size = 10) Pageable pageable) {
-        Page<TaskResponseDto> tasks = taskService.getAllTasksByProjectId(projectId, status, priority, pageable);
+            @Parameter(hidden = true) @PageableDefault(size = 10) Pageable pageable,
+            @Parameter(hidden = true) ServletWebRequest request) {
+        // Only an ETag is sent for lists: deleting an older task does not move the newest update time.
+        // Revalidation reads just the list version; otherwise it comes with the page.
+        TaskListVersion version = null;
+        if (ConditionalRequests.isConditional(request)) {
+            version = taskService.getTaskListVersion(projectId, status, priority);
+            if (ConditionalRequests.checkNotModified(request, ConditionalRequests.etag(version.count(), version.lastModified()), null)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
+        TaskListPage tasks = taskService.getAllTasksByProjectId(projectId, status, priority, pageable, version);
+        if (version == null) {
+            ConditionalRequests.checkNotModified(request, ConditionalRequests.etag(tasks.version().count(), tasks.version().lastModified()), null);
+        }
+        return ResponseEntity.ok(tasks.tasks());
+    }
+
+    @GetMapping("/project/{projectId}/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get tasks by project using a cursor", description = "Retrieves a filtered list of tasks for a specific project using keyset pagination. Pass nextCursor from the previous response to fetch the following page; sort and direction are taken from the cursor when one is supplied. Requires authentication.")
+    public ResponseEntity<CursorPageDto<TaskResponseDto>> getTasksByProjectAfter(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "createDate, updateDate or title") @RequestParam(defaultValue = "createDate") String sort,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPageDto<TaskResponseDto> tasks = taskService.getTasksByProjectIdAfter(projectId, status, priority, sort, direction, cursor, size);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Search tasks by text", description = "Full-text search over task titles and descriptions, ranked by relevance with title matches weighted higher. All terms must match; supports \"phrases\", prefix* terms and -exclusions. Optionally scoped to one project. Requires authentication.")
+    public ResponseEntity<TaskSearchResultDto> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(taskSearchService.search(q, projectId, limit));
+    }
+
     @GetMapping("/{taskId}")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Get a single task by ID", description = "Retrieves a single task by its ID. Requires authentication.")
-    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long taskId) {
+    @Operation(summary = "Get a single task by ID", description = "Retrieves a single task by its ID. Supports If-None-Match and If-Modified-Since. Requires authentication.")
+    public ResponseEntity<TaskResponseDto> getTaskById(
+            @PathVariable Long taskId,
+            @Parameter(hidden = true) ServletWebRequest request) {
+        // Revalidation reads only the version columns, so a 304 never loads or maps the task.
+        if (ConditionalRequests.isConditional(request)) {
+            VersionStamp version = taskService.getTaskVersion(taskId);
+            if (ConditionalRequests.checkNotModified(request, ConditionalRequests.etag(taskId, version.version()), version.updateDate())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            return ResponseEntity.ok(taskService.getTaskById(taskId));
+        }
         TaskResponseDto task = taskService.getTaskById(taskId);
+        ConditionalRequests.checkNotModified(request, ConditionalRequests.etag(taskId, task.getVersion()), task.getUpdateDate());
         return ResponseEntity.ok(task);
     }
 
     @PutMapping("/{taskId}")
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Update a task's details", description = "Updates the details of a task (title, description, etc.). Requires MANAGER role.")
+    @Operation(summary = "Update a task's details", description = "Updates the details of a task (title, description, etc.). Send the task's ETag in If-Match to reject the update with 412 if the task changed since it was read. Requires MANAGER role.")
     public ResponseEntity<TaskResponseDto> updateTask(
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid UpdateTaskRequestDto requestDto) {
-        TaskResponseDto updatedTask = taskService.updateTask(taskId, requestDto);
-        return ResponseEntity.ok(updatedTask);
+        Long expectedVersion = ConditionalRequests.expectedVersion(ifMatch, taskId);
+        TaskResponseDto updatedTask = taskService.updateTask(taskId, requestDto, expectedVersion);
+        return ResponseEntity.ok().eTag(ConditionalRequests.etag(taskId, updatedTask.getVersion())).body(updatedTask);
     }
 
     @PatchMapping("/{taskId}/status")
     @PreAuthorize("hasRole('USER')")
-    @Operation(summary = "Update a task's status", description = "Allows an assigned user to update the status of their task. Requires USER role.")
+    @Operation(summary = "Update a task's status", description = "Allows an assigned user to update the status of their task. Without If-Match a concurrent edit is retried automatically; with If-Match a stale version is rejected with 412. Requires USER role.")
     public ResponseEntity<TaskResponseDto> updateTaskStatus(
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid UpdateTaskStatusRequestDto requestDto) {
-        TaskResponseDto updatedTask = taskService.updateTaskStatus(taskId, requestDto);
-        return ResponseEntity.ok(updatedTask);
+        Long expectedVersion = ConditionalRequests.expectedVersion(ifMatch, taskId);
+        TaskResponseDto updatedTask = taskService.updateTaskStatus(taskId, requestDto, expectedVersion);
+        return ResponseEntity.ok().eTag(ConditionalRequests.etag(taskId, updatedTask.getVersion())).body(updatedTask);
     }
 
-
+    @PatchMapping("/batch/status")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Update task statuses in bulk", description = "Updates the status of up to 500 tasks assigned to the current user and returns a result per item. Requires USER role.")
+    public ResponseEntity<List<TaskBatchResultDto>> updateTaskStatuses(@RequestBody @Valid BatchUpdateTaskStatusRequestDto requestDto) {
+        List<TaskBatchResultDto> results = taskService.updateTaskStatuses(requestDto.getUpdates());
+        return ResponseEntity.ok(results);
+    }
 
     @DeleteMapping("/{taskId}")
     @PreAuthorize("hasRole('MANAGER')")
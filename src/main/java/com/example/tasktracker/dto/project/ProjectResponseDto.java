@@ -1,13 +1,19 @@
 package com.example.tasktracker.dto.project;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class ProjectResponseDto {
     private Long id;
     private String name;
     private String description;
     private Long ownerId;
     private LocalDateTime createDate;
+    private LocalDateTime updateDate;
+    private Long version;
 }
@@ -0,0 +1,18 @@
+package com.example.tasktracker.dto.project;
+
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class ProjectStatsDto {
+    private Long projectId;
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<TaskPriority, Long> byPriority;
+    private long overdue;
+}
@@ -0,0 +1,13 @@
+package com.example.tasktracker.dto.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class BatchUpdateTaskStatusRequestDto {
+    @NotEmpty
+    @Size(max = 500)
+    private List<TaskStatusChangeDto> updates;
+}
@@ -0,0 +1,13 @@
+package com.example.tasktracker.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaskBatchResultDto {
+    private int index;
+    private int status;
+    private TaskResponseDto task;
+    private String error;
+}
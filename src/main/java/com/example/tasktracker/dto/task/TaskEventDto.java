@@ -0,0 +1,15 @@
+package com.example.tasktracker.dto.task;
+
+import com.example.tasktracker.event.TaskChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaskEventDto {
+    private long id;
+    private TaskChangedEvent.Type type;
+    private Long projectId;
+    private Long taskId;
+    private TaskResponseDto task;
+}
@@ -2,11 +2,15 @@ package com.example.tasktracker.dto.task;
 
 import com.example.tasktracker.model.TaskPriority;
 import com.example.tasktracker.model.TaskStatus;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class TaskResponseDto {
     private Long id;
     private String title;
@@ -17,4 +21,6 @@ public class TaskResponseDto {
     private Long projectId;
     private Long assignedUserId;
     private LocalDateTime createDate;
+    private LocalDateTime updateDate;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.example.tasktracker.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaskSearchHitDto {
+    private float score;
+    private TaskResponseDto task;
+}
@@ -0,0 +1,13 @@
+package com.example.tasktracker.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TaskSearchResultDto {
+    private long totalHits;
+    private List<TaskSearchHitDto> hits;
+}
@@ -0,0 +1,14 @@
+package com.example.tasktracker.dto.task;
+
+import com.example.tasktracker.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class TaskStatusChangeDto {
+    @NotNull
+    private Long taskId;
+
+    @NotNull
+    private TaskStatus status;
+}
@@ -0,0 +1,10 @@
+package com.example.tasktracker.dto.user;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequestDto {
+    @NotBlank
+    private String refreshToken;
+}
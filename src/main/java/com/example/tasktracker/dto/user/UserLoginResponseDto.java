@@ -7,4 +7,6 @@ import lombok.Data;
 @AllArgsConstructor
 public class UserLoginResponseDto {
     private String token;
-}
\ No newline at end of file
+    private String refreshToken;
+    private long expiresIn;
+}
@@ -0,0 +1,26 @@
+package com.example.tasktracker.event;
+
+import com.example.tasktracker.dto.project.ProjectResponseDto;
+
+/**
+ * Published by the project service for every project write, inside the writing transaction.
+ * {@code before} is null for creations and {@code after} is null for deletions.
+ */
+public record ProjectChangedEvent(Type type, Long projectId, ProjectResponseDto before, ProjectResponseDto after) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ProjectChangedEvent created(ProjectResponseDto after) {
+        return new ProjectChangedEvent(Type.CREATED, after.getId(), null, after);
+    }
+
+    public static ProjectChangedEvent updated(ProjectResponseDto before, ProjectResponseDto after) {
+        return new ProjectChangedEvent(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static ProjectChangedEvent deleted(Long projectId, ProjectResponseDto before) {
+        return new ProjectChangedEvent(Type.DELETED, projectId, before, null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.tasktracker.event;
+
+import com.example.tasktracker.dto.task.TaskResponseDto;
+
+/**
+ * Published by the task service for every task write, inside the writing transaction.
+ * {@code before} is null for creations and {@code after} is null for deletions.
+ */
+public record TaskChangedEvent(Type type, Long projectId, Long taskId, TaskResponseDto before, TaskResponseDto after) {
+
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+
+    public static TaskChangedEvent created(TaskResponseDto after) {
+        return new TaskChangedEvent(Type.CREATED, after.getProjectId(), after.getId(), null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskResponseDto before, TaskResponseDto after) {
+        return new TaskChangedEvent(Type.UPDATED, after.getProjectId(), after.getId(), before, after);
+    }
+
+    public static TaskChangedEvent statusChanged(TaskResponseDto before, TaskResponseDto after) {
+        return new TaskChangedEvent(Type.STATUS_CHANGED, after.getProjectId(), after.getId(), before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskResponseDto before) {
+        return new TaskChangedEvent(Type.DELETED, before.getProjectId(), before.getId(), before, null);
+    }
+}
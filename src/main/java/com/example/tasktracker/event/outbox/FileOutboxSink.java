@@ -0,0 +1,55 @@
+package com.example.tasktracker.event.outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends relayed messages to a file as newline-delimited JSON. Each batch is forced to disk
+ * before the relay deletes it from the outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.file-sink.path")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectWriter writer;
+
+    public FileOutboxSink(@Value("${app.outbox.file-sink.path}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                for (OutboxMessage message : messages) {
+                    writer.writeValue(out, message);
+                    out.write('\n');
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append outbox batch to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.tasktracker.event.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed change read back from the outbox. Delivery is at least once, so consumers
+ * should treat {@code id} as an idempotency key.
+ */
+public record OutboxMessage(long id, String aggregateType, Long aggregateId, String eventType, String payload,
+                            LocalDateTime createDate) {
+}
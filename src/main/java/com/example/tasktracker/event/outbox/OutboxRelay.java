@@ -0,0 +1,140 @@
+package com.example.tasktracker.event.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drains {@code outbox_events} in id order and hands each batch to every {@link OutboxSink}.
+ * A batch is selected, published and deleted in one transaction, so there is one commit per
+ * batch rather than per event and a failed publish leaves the rows to be retried.
+ * <p>
+ * On PostgreSQL the batch is claimed with {@code for update skip locked}, so several
+ * application instances can relay concurrently without blocking on each other. Other databases
+ * fall back to a plain {@code for update}, which serialises relays instead.
+ * <p>
+ * Messages of one aggregate are delivered in id order, which is their commit order: concurrent
+ * writes to an aggregate are serialised by its optimistic lock, so a later change always gets a
+ * higher id. When relays run concurrently, an aggregate whose earlier row is still claimed by
+ * another relay is left out of this batch and picked up once that row is gone. Messages of
+ * different aggregates carry no ordering guarantee.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getLong("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("create_date").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<OutboxSink> sinks;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final String selectSql;
+    private final boolean concurrentRelays;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            List<OutboxSink> sinks,
+            @Value("${app.outbox.batch-size}") int batchSize,
+            @Value("${app.outbox.max-batches-per-run}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sinks = sinks;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        this.concurrentRelays = "PostgreSQL".equals(database);
+        String lockClause = concurrentRelays ? " for update skip locked" : " for update";
+        this.selectSql = "select id, aggregate_type, aggregate_id, event_type, payload, create_date "
+                + "from outbox_events order by id fetch first ? rows only" + lockClause;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms}", initialDelayString = "${app.outbox.poll-interval-ms}")
+    public void drain() {
+        try {
+            // Keep going while batches come back full, so a burst is cleared without waiting for the next poll.
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                if (relayBatch() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed; the batch will be retried", e);
+        }
+    }
+
+    /**
+     * Publishes and deletes at most one batch. Returns the number of messages relayed.
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxMessage> messages = jdbcTemplate.query(selectSql, ROW_MAPPER, batchSize);
+            if (concurrentRelays && !messages.isEmpty()) {
+                messages = withoutAggregatesClaimedElsewhere(messages, findEarlierRows(messages));
+            }
+            if (messages.isEmpty()) {
+                return 0;
+            }
+            for (OutboxSink sink : sinks) {
+                sink.publish(messages);
+            }
+            jdbcTemplate.batchUpdate("delete from outbox_events where id = ?",
+                    messages.stream().map(message -> new Object[]{message.id()}).toList());
+            return messages.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    /**
+     * Drops every message whose aggregate has an earlier row outside the batch. With skip locked
+     * the batch is the lowest unclaimed ids, so such a row is one another relay is publishing.
+     */
+    static List<OutboxMessage> withoutAggregatesClaimedElsewhere(List<OutboxMessage> batch, List<OutboxMessage> earlierRows) {
+        Set<Long> batchIds = new HashSet<>();
+        batch.forEach(message -> batchIds.add(message.id()));
+        Set<AggregateKey> blocked = new HashSet<>();
+        for (OutboxMessage row : earlierRows) {
+            if (!batchIds.contains(row.id())) {
+                blocked.add(AggregateKey.of(row));
+            }
+        }
+        if (blocked.isEmpty()) {
+            return batch;
+        }
+        return batch.stream().filter(message -> !blocked.contains(AggregateKey.of(message))).toList();
+    }
+
+    // A plain read, so rows claimed by other relays are seen rather than skipped.
+    private List<OutboxMessage> findEarlierRows(List<OutboxMessage> batch) {
+        return jdbcTemplate.query("select id, aggregate_type, aggregate_id from outbox_events where id < ?",
+                (rs, rowNum) -> new OutboxMessage(rs.getLong("id"), rs.getString("aggregate_type"),
+                        rs.getLong("aggregate_id"), null, null, null),
+                batch.get(batch.size() - 1).id());
+    }
+
+    private record AggregateKey(String type, Long id) {
+
+        static AggregateKey of(OutboxMessage message) {
+            return new AggregateKey(message.aggregateType(), message.aggregateId());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.tasktracker.event.outbox;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox messages. A batch is removed from the outbox only after every
+ * sink has accepted it; throwing leaves the whole batch in place to be retried.
+ * <p>
+ * Messages of one aggregate arrive in commit order, both within a batch and across batches.
+ * Messages of different aggregates may arrive in any order, and a batch may be delivered again
+ * after a failed relay, so sinks must tolerate repeats of messages they have already seen.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages);
+}
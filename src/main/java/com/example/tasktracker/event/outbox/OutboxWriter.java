@@ -0,0 +1,90 @@
+package com.example.tasktracker.event.outbox;
+
+import com.example.tasktracker.event.ProjectChangedEvent;
+import com.example.tasktracker.event.TaskChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records task and project changes in {@code outbox_events} as part of the transaction that
+ * made them, so a change is relayed if and only if it commits. Rows are collected per
+ * transaction and written with one JDBC batch just before commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    public static final String TASK_AGGREGATE = "Task";
+    public static final String PROJECT_AGGREGATE = "Project";
+
+    private static final String INSERT_SQL = "insert into outbox_events "
+            + "(aggregate_type, aggregate_id, event_type, payload, create_date) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        append(TASK_AGGREGATE, event.taskId(), event.type().name(), event.before(), event.after());
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        append(PROJECT_AGGREGATE, event.projectId(), event.type().name(), event.before(), event.after());
+    }
+
+    private void append(String aggregateType, Long aggregateId, String eventType, Object before, Object after) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("before", before);
+        payload.put("after", after);
+        Object[] row = {aggregateType, aggregateId, eventType, toJson(payload), Timestamp.valueOf(LocalDateTime.now())};
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(INSERT_SQL, row);
+            return;
+        }
+        PendingRows pending = (PendingRows) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRows();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.rows.add(row);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+
+    private final class PendingRows implements TransactionSynchronization {
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.tasktracker.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency, following the gradient approach: the
+ * ratio of long-term to short-term average latency scales the limit down as soon as requests
+ * slow down, and a small {@code sqrt(limit)} headroom lets it probe upwards while latency is
+ * flat. Failed requests cut the limit multiplicatively.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_WINDOW_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (500 + 1);
+    // Latency may grow by this factor over the long-term average before the limit shrinks.
+    private static final double TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double FAILURE_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Admits a request if fewer than {@code share} of the current limit are in flight, so lower
+     * priority traffic is shed first while higher priority traffic still has headroom.
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long rttNanos) {
+        int inFlightAtStart = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtStart, false);
+    }
+
+    public void onFailure() {
+        int inFlightAtStart = inFlight.getAndDecrement();
+        update(0, inFlightAtStart, true);
+    }
+
+    /**
+     * Releases a slot without feeding the sample, for requests whose duration says nothing
+     * about backend latency, such as streams that went asynchronous.
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtStart, boolean failed) {
+        double current = limit;
+        double next;
+        if (failed) {
+            next = current * FAILURE_BACKOFF;
+        } else {
+            if (longRttNanos == 0) {
+                shortRttNanos = rttNanos;
+                longRttNanos = rttNanos;
+            } else {
+                shortRttNanos += SHORT_WINDOW_ALPHA * (rttNanos - shortRttNanos);
+                longRttNanos += LONG_WINDOW_ALPHA * (rttNanos - longRttNanos);
+                // After a sustained slowdown, let the baseline follow so the limit can recover.
+                if (longRttNanos > 2 * shortRttNanos) {
+                    longRttNanos *= 0.95;
+                }
+            }
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+            next = current * gradient + Math.sqrt(current);
+            // Only grow when the limit is actually being used.
+            if (inFlightAtStart < current / 2) {
+                next = Math.min(next, current);
+            }
+            next = current * (1 - smoothing) + next * smoothing;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
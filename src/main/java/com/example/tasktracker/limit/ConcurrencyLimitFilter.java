@@ -0,0 +1,165 @@
+package com.example.tasktracker.limit;
+
+import com.example.tasktracker.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sheds load with 503 and {@code Retry-After} once an endpoint class reaches its adaptive
+ * concurrency limit, so a slow database bounds queueing instead of letting every request wait.
+ * Bulk listings and searches are admitted only up to {@code app.concurrency.low-priority-share}
+ * of the read limit, and writes other than status changes up to that share of the write limit,
+ * which leaves headroom for single-resource reads and {@code PATCH /api/tasks/{id}/status}.
+ * <p>
+ * Runs in the security filter chain ahead of {@code JwtAuthenticationFilter}, so rejected
+ * requests cost no token verification. Limits, in-flight counts and rejections are published
+ * as {@code app.concurrency.*} metrics tagged with the endpoint class.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+    private static final List<String> STREAMS = List.of("/api/projects/stream", "/api/projects/*/events");
+    private static final List<String> BULK_READS = List.of(
+            "/api/tasks/project/**", "/api/tasks/search", "/api/projects", "/api/projects/cursor", "/api/projects/stats");
+    private static final String STATUS_CHANGE = "/api/tasks/*/status";
+
+    private final boolean enabled;
+    private final double lowPriorityShare;
+    private final long retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+    private final Map<EndpointClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.concurrency.enabled}") boolean enabled,
+            @Value("${app.concurrency.initial-limit}") int initialLimit,
+            @Value("${app.concurrency.min-limit}") int minLimit,
+            @Value("${app.concurrency.max-limit}") int maxLimit,
+            @Value("${app.concurrency.smoothing}") double smoothing,
+            @Value("${app.concurrency.low-priority-share}") double lowPriorityShare,
+            @Value("${app.concurrency.retry-after-seconds}") long retryAfterSeconds) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.lowPriorityShare = lowPriorityShare;
+        this.retryAfterSeconds = retryAfterSeconds;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, smoothing);
+            limits.put(endpointClass, limit);
+            Gauge.builder("app.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .tag("class", endpointClass.tagValue())
+                    .register(meterRegistry);
+            Gauge.builder("app.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .tag("class", endpointClass.tagValue())
+                    .register(meterRegistry);
+            rejections.put(endpointClass, Counter.builder("app.concurrency.rejected")
+                    .tag("class", endpointClass.tagValue())
+                    .register(meterRegistry));
+        }
+    }
+
+    AdaptiveConcurrencyLimit limitFor(EndpointClass endpointClass) {
+        return limits.get(endpointClass);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        EndpointClass endpointClass = classify(request.getMethod(), path);
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimit limit = limits.get(endpointClass);
+        double share = isLowPriority(endpointClass, request.getMethod(), path) ? lowPriorityShare : 1.0;
+        if (!limit.tryAcquire(share)) {
+            rejections.get(endpointClass).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (request.isAsyncStarted()) {
+                limit.onIgnore();
+            } else if (failed) {
+                limit.onFailure();
+            } else {
+                limit.onSuccess(System.nanoTime() - start);
+            }
+        }
+    }
+
+    static EndpointClass classify(String method, String path) {
+        if (PATHS.match("/auth/**", path)) {
+            return EndpointClass.AUTH;
+        }
+        if (!PATHS.match("/api/tasks/**", path) && !PATHS.match("/api/projects/**", path)) {
+            return null;
+        }
+        if (HttpMethod.GET.matches(method)) {
+            return matchesAny(STREAMS, path) ? null : EndpointClass.READ;
+        }
+        return EndpointClass.WRITE;
+    }
+
+    static boolean isLowPriority(EndpointClass endpointClass, String method, String path) {
+        return switch (endpointClass) {
+            case AUTH -> false;
+            case READ -> matchesAny(BULK_READS, path);
+            case WRITE -> !(HttpMethod.PATCH.matches(method) && PATHS.match(STATUS_CHANGE, path));
+        };
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "The server is overloaded. Retry after " + retryAfterSeconds + " seconds."));
+    }
+
+    private static boolean matchesAny(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (PATHS.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
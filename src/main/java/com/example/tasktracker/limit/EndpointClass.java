@@ -0,0 +1,14 @@
+package com.example.tasktracker.limit;
+
+/**
+ * Groups of endpoints that share one adaptive concurrency limit.
+ */
+public enum EndpointClass {
+    AUTH,
+    READ,
+    WRITE;
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
@@ -15,5 +15,6 @@ public interface ProjectMapper {
     @Mapping(target = "owner", ignore = true)
     @Mapping(target = "createDate", ignore = true)
     @Mapping(target = "updateDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Project toModel(CreateProjectRequestDto requestDto);
 }
\ No newline at end of file
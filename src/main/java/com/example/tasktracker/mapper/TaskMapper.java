@@ -17,5 +17,6 @@ public interface TaskMapper {
     @Mapping(target = "assignedUser", ignore = true)
     @Mapping(target = "createDate", ignore = true)
     @Mapping(target = "updateDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Task toModel(CreateTaskRequestDto requestDto);
 }
\ No newline at end of file
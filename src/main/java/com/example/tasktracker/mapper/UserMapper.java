@@ -13,5 +13,6 @@ public interface UserMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createDate", ignore = true)
     @Mapping(target = "updateDate", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     User toModel(UserRegistrationRequestDto requestDto);
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.example.tasktracker.metrics;
+
+import com.example.tasktracker.exception.EntityNotFoundException;
+import com.example.tasktracker.exception.InvalidPageRequestException;
+import com.example.tasktracker.exception.InvalidSearchQueryException;
+import com.example.tasktracker.exception.PreconditionFailedException;
+import com.example.tasktracker.exception.RegistrationException;
+import com.example.tasktracker.exception.TooManyRequestsException;
+import com.example.tasktracker.service.ProjectService;
+import com.example.tasktracker.service.TaskService;
+import com.example.tasktracker.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Times every {@code TaskService}, {@code ProjectService} and {@code UserService} call as
+ * {@code app.service}, tagged with the service, method, outcome and caller role. The advice runs
+ * outside the transaction so commit time is included.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String METRIC = "app.service";
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final List<Class<?>> SERVICES = List.of(TaskService.class, ProjectService.class, UserService.class);
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* com.example.tasktracker.service.TaskService.*(..))"
+            + " || execution(* com.example.tasktracker.service.ProjectService.*(..))"
+            + " || execution(* com.example.tasktracker.service.UserService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String role = currentRole();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = outcome(ex);
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .tag("service", serviceName(joinPoint.getTarget()))
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .tag("role", role)
+                    .register(meterRegistry));
+        }
+    }
+
+    // Tag with the interface rather than the implementation class the proxy reports.
+    private static String serviceName(Object target) {
+        for (Class<?> service : SERVICES) {
+            if (service.isInstance(target)) {
+                return service.getSimpleName();
+            }
+        }
+        return target.getClass().getSimpleName();
+    }
+
+    // Mirrors the 4xx mappings in GlobalExceptionHandler.
+    private static String outcome(Throwable ex) {
+        if (ex instanceof EntityNotFoundException
+                || ex instanceof InvalidPageRequestException
+                || ex instanceof InvalidSearchQueryException
+                || ex instanceof PreconditionFailedException
+                || ex instanceof RegistrationException
+                || ex instanceof TooManyRequestsException
+                || ex instanceof OptimisticLockingFailureException
+                || ex instanceof AccessDeniedException
+                || ex instanceof AuthenticationException) {
+            return "client_error";
+        }
+        return "server_error";
+    }
+
+    private static String currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return "anonymous";
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith(ROLE_PREFIX)) {
+                return name.substring(ROLE_PREFIX.length());
+            }
+        }
+        return "anonymous";
+    }
+}
@@ -3,6 +3,8 @@ package com.example.tasktracker.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,7 +13,9 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "idx_projects_owner", columnList = "owner_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Project {
 
     @Id
@@ -33,4 +37,8 @@ public class Project {
 
     @UpdateTimestamp
     private LocalDateTime updateDate;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
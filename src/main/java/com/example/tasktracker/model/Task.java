@@ -12,11 +12,18 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_status_priority", columnList = "project_id, status, priority"),
+        @Index(name = "idx_tasks_project_priority", columnList = "project_id, priority"),
+        @Index(name = "idx_tasks_project_create_date", columnList = "project_id, create_date, id"),
+        @Index(name = "idx_tasks_project_update_date", columnList = "project_id, update_date, id"),
+        @Index(name = "idx_tasks_assigned_user", columnList = "assigned_user_id")
+})
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -48,4 +55,8 @@ public class Task {
 
     @UpdateTimestamp
     private LocalDateTime updateDate;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
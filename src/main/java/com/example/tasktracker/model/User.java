@@ -1,8 +1,12 @@
 package com.example.tasktracker.model;
 
+import com.example.tasktracker.security.AuthenticatedUser;
+import com.example.tasktracker.security.UserCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
@@ -12,12 +16,16 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 @Data 
 @NoArgsConstructor 
 @Entity
 @Table(name = "users")
-public class User implements UserDetails {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(UserCacheEvictionListener.class)
+public class User implements UserDetails, AuthenticatedUser {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +41,9 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Role role;
 
+    @Column(nullable = false)
+    private int tokenVersion;
+
     @CreationTimestamp 
     @Column(updatable = false)
     private LocalDateTime createDate;
@@ -46,6 +57,24 @@ public class User implements UserDetails {
         this.role = role;
     }
 
+    public void setPassword(String password) {
+        if (id != null && !Objects.equals(this.password, password)) {
+            revokeTokens();
+        }
+        this.password = password;
+    }
+
+    public void setRole(Role role) {
+        if (id != null && this.role != role) {
+            revokeTokens();
+        }
+        this.role = role;
+    }
+
+    public void revokeTokens() {
+        tokenVersion++;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
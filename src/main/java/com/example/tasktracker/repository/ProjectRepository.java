@@ -1,10 +1,35 @@
 package com.example.tasktracker.repository;
 
+import com.example.tasktracker.dto.project.ProjectResponseDto;
 import com.example.tasktracker.model.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-}
\ No newline at end of file
+    @Query(value = "select new com.example.tasktracker.dto.project.ProjectResponseDto("
+            + "p.id, p.name, p.description, p.owner.id, p.createDate, p.updateDate, p.version) from Project p",
+            countQuery = "select count(p) from Project p")
+    Page<ProjectResponseDto> findAllResponseDtos(Pageable pageable);
+
+    List<Project> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select p from Project p order by p.id")
+    Stream<Project> streamAllByOrderByIdAsc();
+}
@@ -0,0 +1,40 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.model.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // Serializes concurrent refreshes of the same token so it can only be rotated once.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RefreshToken r join fetch r.user where r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(String tokenHash);
+
+    @Query("select r.accessTokenId from RefreshToken r where r.familyId = :familyId and r.createDate > :issuedAfter")
+    List<String> findAccessTokenIdsByFamilyIdIssuedAfter(String familyId, LocalDateTime issuedAfter);
+
+    @Query("select r.accessTokenId from RefreshToken r where r.user.id = :userId and r.revoked = false and r.createDate > :issuedAfter")
+    List<String> findActiveAccessTokenIdsByUserIdIssuedAfter(Long userId, LocalDateTime issuedAfter);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.familyId = :familyId")
+    int revokeFamily(String familyId);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.user.id = :userId and r.revoked = false")
+    int revokeAllForUser(Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :cutoff")
+    int deleteExpiredBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,53 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.exception.InvalidPageRequestException;
+import com.example.tasktracker.model.Task;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last task of a keyset page: the sort key value and id of that task,
+ * together with the sort it was produced for. Serialized as an opaque URL-safe token.
+ * <p>
+ * Sort keys may be null. A null value is written with its own marker, so it cannot be confused
+ * with a value; see {@link TaskSpecification#orderedBy} for where nulls sort.
+ */
+public record TaskCursor(TaskSortField sortField, Sort.Direction direction, Long lastId, Comparable<?> lastValue) {
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "-";
+    private static final String VALUE_PREFIX = "=";
+
+    public static TaskCursor after(Task task, TaskSortField sortField, Sort.Direction direction) {
+        return new TaskCursor(sortField, direction, task.getId(), sortField.valueOf(task));
+    }
+
+    public String encode() {
+        String value = lastValue != null ? VALUE_PREFIX + lastValue : NULL_VALUE;
+        String raw = sortField.name() + SEPARATOR + direction.name() + SEPARATOR + lastId + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            TaskSortField sortField = TaskSortField.valueOf(parts[0]);
+            return new TaskCursor(sortField, Sort.Direction.valueOf(parts[1]), Long.valueOf(parts[2]), parseValue(sortField, parts[3]));
+        } catch (RuntimeException e) {
+            throw new InvalidPageRequestException("Malformed cursor.");
+        }
+    }
+
+    private static Comparable<?> parseValue(TaskSortField sortField, String value) {
+        if (value.equals(NULL_VALUE)) {
+            return null;
+        }
+        if (!value.startsWith(VALUE_PREFIX)) {
+            throw new IllegalArgumentException("Unknown cursor value: " + value);
+        }
+        return sortField.parse(value.substring(VALUE_PREFIX.length()));
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+
+import java.time.LocalDate;
+
+public record TaskGroupCount(Long projectId, TaskStatus status, TaskPriority priority, LocalDate dueDate, long count) {
+}
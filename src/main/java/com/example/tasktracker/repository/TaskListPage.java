@@ -0,0 +1,10 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import org.springframework.data.domain.Page;
+
+/**
+ * A page of a filtered task list and the version of the whole list it was read from.
+ */
+public record TaskListPage(Page<TaskResponseDto> tasks, TaskListVersion version) {
+}
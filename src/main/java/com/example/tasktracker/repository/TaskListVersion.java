@@ -0,0 +1,10 @@
+package com.example.tasktracker.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and newest update time of a filtered task list. Any insert, update or delete
+ * within the filter changes at least one of the two.
+ */
+public record TaskListVersion(long count, LocalDateTime lastModified) {
+}
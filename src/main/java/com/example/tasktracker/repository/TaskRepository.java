@@ -1,11 +1,43 @@
 package com.example.tasktracker.repository;
 
+import com.example.tasktracker.dto.task.TaskResponseDto;
 import com.example.tasktracker.model.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+
+    @Query("select t from Task t join fetch t.project where t.id = :id")
+    Optional<Task> findWithProjectById(Long id);
+
+    @Query("select new com.example.tasktracker.dto.task.TaskResponseDto("
+            + "t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.project.id, t.assignedUser.id, t.createDate, t.updateDate, t.version) "
+            + "from Task t where t.id = :id")
+    Optional<TaskResponseDto> findResponseDtoById(Long id);
+
+    @Query("select new com.example.tasktracker.repository.VersionStamp(t.version, t.updateDate) from Task t where t.id = :id")
+    Optional<VersionStamp> findVersionStampById(Long id);
+
+    @Query("select new com.example.tasktracker.repository.TaskGroupCount("
+            + "t.project.id, t.status, t.priority, t.dueDate, count(t)) "
+            + "from Task t where t.project.id in :projectIds "
+            + "group by t.project.id, t.status, t.priority, t.dueDate")
+    List<TaskGroupCount> countGroupedByProjectIdIn(Collection<Long> projectIds);
+
+    @Query("select new com.example.tasktracker.dto.task.TaskResponseDto("
+            + "t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.project.id, t.assignedUser.id, t.createDate, t.updateDate, t.version) "
+            + "from Task t where t.id in :ids")
+    List<TaskResponseDto> findResponseDtosByIdIn(Collection<Long> ids);
 
-}
\ No newline at end of file
+    @Query("select new com.example.tasktracker.repository.TaskSearchSource(t.id, t.project.id, t.title, t.description, t.version) "
+            + "from Task t where t.id > :afterId order by t.id")
+    List<TaskSearchSource> findSearchSourcesAfter(Long afterId, Limit limit);
+}
@@ -0,0 +1,21 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TaskRepositoryCustom {
+
+    Page<TaskResponseDto> findResponseDtos(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Loads a page together with the version of the whole filtered list. The version query
+     * takes the place of the count query, and is skipped when the first page holds the entire
+     * list. A version the caller has already read is reused instead.
+     */
+    TaskListPage findResponseDtoPage(Specification<Task> spec, Pageable pageable, TaskListVersion knownVersion);
+
+    TaskListVersion findListVersion(Specification<Task> spec);
+}
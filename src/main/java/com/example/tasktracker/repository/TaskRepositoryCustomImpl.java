@@ -0,0 +1,119 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+/**
+ * Runs task specifications as constructor-expression queries, so list reads select the
+ * response columns directly instead of hydrating managed {@link Task} entities.
+ */
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TaskResponseDto> findResponseDtos(Specification<Task> spec, Pageable pageable) {
+        List<TaskResponseDto> content = findContent(spec, pageable);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public TaskListPage findResponseDtoPage(Specification<Task> spec, Pageable pageable, TaskListVersion knownVersion) {
+        List<TaskResponseDto> content = findContent(spec, pageable);
+        TaskListVersion version = knownVersion;
+        if (version == null) {
+            boolean wholeList = pageable.isUnpaged() || (pageable.getOffset() == 0 && content.size() < pageable.getPageSize());
+            version = wholeList ? versionOf(content) : findListVersion(spec);
+        }
+        return new TaskListPage(new PageImpl<>(content, pageable, version.count()), version);
+    }
+
+    private List<TaskResponseDto> findContent(Specification<Task> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponseDto> query = criteriaBuilder.createQuery(TaskResponseDto.class);
+        Root<Task> root = query.from(Task.class);
+
+        query.select(criteriaBuilder.construct(TaskResponseDto.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("priority"),
+                root.get("dueDate"),
+                root.get("project").get("id"),
+                root.get("assignedUser").get("id"),
+                root.get("createDate"),
+                root.get("updateDate"),
+                root.get("version")));
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        TypedQuery<TaskResponseDto> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public TaskListVersion findListVersion(Specification<Task> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListVersion> query = criteriaBuilder.createQuery(TaskListVersion.class);
+        Root<Task> root = query.from(Task.class);
+
+        query.select(criteriaBuilder.construct(TaskListVersion.class,
+                criteriaBuilder.count(root),
+                criteriaBuilder.greatest(root.<LocalDateTime>get("updateDate"))));
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static TaskListVersion versionOf(List<TaskResponseDto> tasks) {
+        LocalDateTime lastModified = tasks.stream()
+                .map(TaskResponseDto::getUpdateDate)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new TaskListVersion(tasks.size(), lastModified);
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+
+        query.select(criteriaBuilder.count(root));
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.tasktracker.repository;
+
+/**
+ * The columns of a task that go into the full-text index.
+ */
+public record TaskSearchSource(Long id, Long projectId, String title, String description, Long version) {
+}
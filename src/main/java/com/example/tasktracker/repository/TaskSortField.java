@@ -0,0 +1,43 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.exception.InvalidPageRequestException;
+import com.example.tasktracker.model.Task;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+public enum TaskSortField {
+    CREATE_DATE("createDate", Task::getCreateDate, LocalDateTime::parse),
+    UPDATE_DATE("updateDate", Task::getUpdateDate, LocalDateTime::parse),
+    TITLE("title", Task::getTitle, value -> value);
+
+    private final String property;
+    private final Function<Task, Comparable<?>> extractor;
+    private final Function<String, Comparable<?>> parser;
+
+    TaskSortField(String property, Function<Task, Comparable<?>> extractor, Function<String, Comparable<?>> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Comparable<?> valueOf(Task task) {
+        return extractor.apply(task);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    public static TaskSortField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new InvalidPageRequestException("Unsupported sort property: " + property));
+    }
+}
@@ -3,7 +3,10 @@ package com.example.tasktracker.repository;
 import com.example.tasktracker.model.Task;
 import com.example.tasktracker.model.TaskPriority;
 import com.example.tasktracker.model.TaskStatus;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,4 +30,54 @@ public class TaskSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Orders by {@code (sortKey, id)} in the given direction. A null sort key counts as larger
+     * than any value, so it comes last when ascending and first when descending on every
+     * database, matching PostgreSQL's default and its indexes.
+     */
+    public static Specification<Task> orderedBy(TaskSortField sortField, Sort.Direction direction) {
+        return (root, query, criteriaBuilder) -> {
+            HibernateCriteriaBuilder builder = (HibernateCriteriaBuilder) criteriaBuilder;
+            Expression<?> key = root.get(sortField.getProperty());
+            Expression<?> id = root.get("id");
+            query.orderBy(direction.isAscending()
+                    ? List.of(builder.asc(key, false), builder.asc(id))
+                    : List.of(builder.desc(key, true), builder.desc(id)));
+            return null;
+        };
+    }
+
+    /**
+     * Seek predicate for keyset pagination: rows strictly after the cursor in
+     * {@code (sortKey, id)} order, so ties on the sort key are broken by id. Nulls are placed
+     * as in {@link #orderedBy}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Expression<Comparable> key = root.get(cursor.sortField().getProperty());
+            Expression<Long> id = root.get("id");
+            Comparable value = cursor.lastValue();
+
+            if (cursor.direction().isAscending()) {
+                Predicate nullAfter = criteriaBuilder.and(criteriaBuilder.isNull(key), criteriaBuilder.greaterThan(id, cursor.lastId()));
+                if (value == null) {
+                    return nullAfter;
+                }
+                return criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(key, value),
+                        criteriaBuilder.and(criteriaBuilder.equal(key, value), criteriaBuilder.greaterThan(id, cursor.lastId())),
+                        criteriaBuilder.isNull(key));
+            }
+            if (value == null) {
+                return criteriaBuilder.or(
+                        criteriaBuilder.and(criteriaBuilder.isNull(key), criteriaBuilder.lessThan(id, cursor.lastId())),
+                        criteriaBuilder.isNotNull(key));
+            }
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(key, value),
+                    criteriaBuilder.and(criteriaBuilder.equal(key, value), criteriaBuilder.lessThan(id, cursor.lastId())));
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.tasktracker.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optimistic-lock version and update time of a single row, read without loading the entity.
+ */
+public record VersionStamp(long version, LocalDateTime updateDate) {
+}
@@ -0,0 +1,18 @@
+package com.example.tasktracker.search;
+
+import com.example.tasktracker.repository.TaskSearchSource;
+
+/**
+ * One change to the search index: an upsert of {@code source}, or a delete when it is null.
+ * A delete carries a version above the task's last one, so no earlier upsert can follow it.
+ */
+public record TaskIndexChange(long taskId, long version, TaskSearchSource source) {
+
+    public static TaskIndexChange upsert(TaskSearchSource source) {
+        return new TaskIndexChange(source.id(), source.version(), source);
+    }
+
+    public static TaskIndexChange delete(long taskId, long version) {
+        return new TaskIndexChange(taskId, version, null);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.tasktracker.search;
+
+import com.example.tasktracker.repository.TaskSearchSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Feeds this instance's search index from {@code task_search_changes}, with its own cursor
+ * over the row ids. Ids are taken before the relay commits, so a row can become visible after
+ * a higher one: the cursor only moves past rows older than {@code app.search.feed.settle-ms},
+ * and newer rows are read again on the next poll. Replaying them is harmless because the
+ * index skips changes older than what it holds.
+ * <p>
+ * Rows are kept for {@code app.search.feed.retention-ms}. An index reopened from disk whose
+ * last commit is older than that is rebuilt instead of resumed.
+ */
+@Slf4j
+@Component
+public class TaskSearchFeed {
+
+    private static final String SELECT_SQL = "select id, task_id, version, project_id, title, description, create_date "
+            + "from task_search_changes where id > ? order by id fetch first ? rows only";
+
+    private static final RowMapper<ChangeRow> ROW_MAPPER = (rs, rowNum) -> {
+        long taskId = rs.getLong("task_id");
+        long version = rs.getLong("version");
+        String title = rs.getString("title");
+        TaskIndexChange change = title == null
+                ? TaskIndexChange.delete(taskId, version)
+                : TaskIndexChange.upsert(new TaskSearchSource(
+                        taskId, rs.getLong("project_id"), title, rs.getString("description"), version));
+        return new ChangeRow(rs.getLong("id"), rs.getTimestamp("create_date").toLocalDateTime(), change);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskSearchIndex taskSearchIndex;
+    private final int batchSize;
+    private final long settleMs;
+    private final long retentionMs;
+    private long cursor;
+
+    public TaskSearchFeed(
+            JdbcTemplate jdbcTemplate,
+            TaskSearchIndex taskSearchIndex,
+            @Value("${app.search.feed.batch-size}") int batchSize,
+            @Value("${app.search.feed.settle-ms}") long settleMs,
+            @Value("${app.search.feed.retention-ms}") long retentionMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskSearchIndex = taskSearchIndex;
+        this.batchSize = batchSize;
+        this.settleMs = settleMs;
+        this.retentionMs = retentionMs;
+        Long position = taskSearchIndex.getFeedPosition();
+        this.cursor = position != null ? position : 0;
+    }
+
+    /**
+     * True when the index was reopened with a feed position whose rows are still retained.
+     */
+    public boolean canResume() {
+        Long committedAt = taskSearchIndex.getLastCommittedAt();
+        return taskSearchIndex.getFeedPosition() != null
+                && committedAt != null
+                && committedAt > System.currentTimeMillis() - retentionMs;
+    }
+
+    /**
+     * Applies every row after the cursor. Returns the number of rows read.
+     */
+    @Scheduled(fixedDelayString = "${app.search.feed.poll-interval-ms}", initialDelayString = "${app.search.feed.poll-interval-ms}")
+    public synchronized int poll() {
+        LocalDateTime settledBefore = LocalDateTime.now().minusNanos(settleMs * 1_000_000);
+        long readFrom = cursor;
+        boolean settled = true;
+        int read = 0;
+        try {
+            List<ChangeRow> rows;
+            do {
+                rows = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, readFrom, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (ChangeRow row : rows) {
+                    settled = settled && row.createDate().isBefore(settledBefore);
+                    if (settled) {
+                        cursor = row.id();
+                    }
+                }
+                taskSearchIndex.apply(rows.stream().map(ChangeRow::change).toList(), cursor);
+                readFrom = rows.get(rows.size() - 1).id();
+                read += rows.size();
+            } while (rows.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Task search feed failed; the rows will be read again", e);
+        }
+        return read;
+    }
+
+    /**
+     * Rebuilds the index from {@code nextPage} and resumes the feed from the last settled row
+     * before the rebuild started, so changes made while it ran are replayed.
+     */
+    public synchronized long rebuild(Function<Long, List<TaskSearchSource>> nextPage) {
+        Long position = jdbcTemplate.queryForObject(
+                "select coalesce(max(id), 0) from task_search_changes where create_date < ?", Long.class,
+                Timestamp.valueOf(LocalDateTime.now().minusNanos(settleMs * 1_000_000)));
+        long indexed = taskSearchIndex.rebuild(nextPage, position);
+        cursor = position;
+        return indexed;
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.feed.cleanup-interval-ms}")
+    public void deleteExpired() {
+        int deleted = jdbcTemplate.update("delete from task_search_changes where create_date < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusNanos(retentionMs * 1_000_000)));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired task search changes", deleted);
+        }
+    }
+
+    private record ChangeRow(long id, LocalDateTime createDate, TaskIndexChange change) {
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.tasktracker.search;
+
+import com.example.tasktracker.repository.TaskSearchSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Lucene inverted index over task titles and descriptions. Searches run against a
+ * near-real-time reader that is refreshed after every write batch; commits are made on a
+ * schedule, since a lost tail is replayed from the change feed or recovered by a rebuild.
+ * Each commit records the feed position it includes and when it was made.
+ * <p>
+ * Every document stores the task version it was built from, and {@link #apply} never
+ * replaces a newer document with an older one. A deleted task leaves a tombstone with only
+ * its id and version, which no text query matches, so a late upsert cannot bring it back.
+ * That keeps the index correct when changes arrive out of order or are replayed.
+ */
+@Slf4j
+@Component
+public class TaskSearchIndex implements AutoCloseable {
+
+    static final String ID = "id";
+    static final String PROJECT_ID = "projectId";
+    static final String TITLE = "title";
+    static final String DESCRIPTION = "description";
+    static final String VERSION = "version";
+    static final String FEED_POSITION = "feedPosition";
+    static final String COMMITTED_AT = "committedAt";
+
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 2.0f, DESCRIPTION, 1.0f);
+
+    private final Directory directory;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    // Serialises writers: a rebuild must not interleave with relayed changes.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Long lastCommittedAt;
+    private volatile Long feedPosition;
+
+    public TaskSearchIndex(@Value("${app.search.index-path:}") String indexPath) throws IOException {
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = writer.getLiveCommitData();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        }
+        this.feedPosition = commitData.containsKey(FEED_POSITION) ? Long.valueOf(commitData.get(FEED_POSITION)) : null;
+        this.lastCommittedAt = commitData.containsKey(COMMITTED_AT) ? Long.valueOf(commitData.get(COMMITTED_AT)) : null;
+    }
+
+    /**
+     * True when the index holds no documents, e.g. on first start with an in-memory directory.
+     */
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    /**
+     * Id of the last change feed row this index includes, or {@code null} if it never had one.
+     */
+    public Long getFeedPosition() {
+        return feedPosition;
+    }
+
+    /**
+     * Epoch millis of the commit this index was opened from, or {@code null} for a new index.
+     */
+    public Long getLastCommittedAt() {
+        return lastCommittedAt;
+    }
+
+    public void apply(List<TaskIndexChange> changes) {
+        apply(changes, null);
+    }
+
+    /**
+     * Applies changes in order. A change older than the version already indexed is skipped.
+     * A non-null {@code position} is recorded as the feed position with the next commit.
+     */
+    public void apply(List<TaskIndexChange> changes, Long position) {
+        writeLock.lock();
+        try {
+            searcherManager.maybeRefreshBlocking();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Map<Long, Long> batchVersions = new HashMap<>();
+                for (TaskIndexChange change : changes) {
+                    Term idTerm = idTerm(change.taskId());
+                    Long indexedVersion = batchVersions.containsKey(change.taskId())
+                            ? batchVersions.get(change.taskId())
+                            : indexedVersion(searcher, idTerm);
+                    if (indexedVersion != null && change.version() < indexedVersion) {
+                        continue;
+                    }
+                    TaskSearchSource source = change.source();
+                    writer.updateDocument(idTerm, source != null ? toDocument(source) : tombstone(change));
+                    batchVersions.put(change.taskId(), change.version());
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+            if (position != null) {
+                feedPosition = position;
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not update the task search index", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the tasks returned by {@code nextPage}, which is called with
+     * the last id seen (0 at first) until it returns an empty page. Searches keep using the
+     * previous contents until the rebuild is committed together with {@code position}, the
+     * feed position the rebuilt contents are known to include.
+     */
+    public long rebuild(Function<Long, List<TaskSearchSource>> nextPage, long position) {
+        writeLock.lock();
+        try {
+            writer.deleteAll();
+            long indexed = 0;
+            long lastId = 0;
+            List<TaskSearchSource> page;
+            while (!(page = nextPage.apply(lastId)).isEmpty()) {
+                writer.addDocuments(page.stream().map(this::toDocument).toList());
+                indexed += page.size();
+                lastId = page.get(page.size() - 1).id();
+            }
+            feedPosition = position;
+            commitWithFeedPosition();
+            searcherManager.maybeRefreshBlocking();
+            return indexed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rebuild the task search index", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public SearchResult search(String queryText, Long projectId, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(queryText);
+        if (textQuery == null) {
+            return new SearchResult(0, List.of());
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (projectId != null) {
+            query.add(LongField.newExactQuery(PROJECT_ID, projectId), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query.build(), limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    Document document = storedFields.document(scoreDoc.doc, Set.of(ID));
+                    hits.add(new Hit(Long.parseLong(document.get(ID)), scoreDoc.score));
+                }
+                return new SearchResult(topDocs.totalHits.value, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms}")
+    public void commit() throws IOException {
+        // A commit in the middle of a rebuild would persist the index right after deleteAll.
+        writeLock.lock();
+        try {
+            if (writer.hasUncommittedChanges()) {
+                commitWithFeedPosition();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void commitWithFeedPosition() throws IOException {
+        Map<String, String> commitData = new HashMap<>();
+        commitData.put(COMMITTED_AT, String.valueOf(System.currentTimeMillis()));
+        if (feedPosition != null) {
+            commitData.put(FEED_POSITION, String.valueOf(feedPosition));
+        }
+        writer.setLiveCommitData(commitData.entrySet());
+        writer.commit();
+    }
+
+    private Long indexedVersion(IndexSearcher searcher, Term idTerm) throws IOException {
+        TopDocs topDocs = searcher.search(new TermQuery(idTerm), 1);
+        if (topDocs.scoreDocs.length == 0) {
+            return null;
+        }
+        Document document = searcher.storedFields().document(topDocs.scoreDocs[0].doc, Set.of(VERSION));
+        return document.getField(VERSION).numericValue().longValue();
+    }
+
+    private Document toDocument(TaskSearchSource source) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(source.id()), Field.Store.YES));
+        document.add(new LongField(PROJECT_ID, source.projectId(), Field.Store.NO));
+        document.add(new TextField(TITLE, source.title(), Field.Store.NO));
+        if (source.description() != null) {
+            document.add(new TextField(DESCRIPTION, source.description(), Field.Store.NO));
+        }
+        document.add(new StoredField(VERSION, source.version()));
+        return document;
+    }
+
+    private static Document tombstone(TaskIndexChange change) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(change.taskId()), Field.Store.YES));
+        document.add(new StoredField(VERSION, change.version()));
+        return document;
+    }
+
+    private static Term idTerm(long taskId) {
+        return new Term(ID, String.valueOf(taskId));
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            commitWithFeedPosition();
+        } finally {
+            writeLock.unlock();
+        }
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    public record Hit(long taskId, float score) {
+    }
+
+    public record SearchResult(long totalHits, List<Hit> hits) {
+    }
+}
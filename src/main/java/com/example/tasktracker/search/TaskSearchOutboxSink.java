@@ -0,0 +1,65 @@
+package com.example.tasktracker.search;
+
+import com.example.tasktracker.event.TaskChangedEvent;
+import com.example.tasktracker.event.outbox.OutboxMessage;
+import com.example.tasktracker.event.outbox.OutboxSink;
+import com.example.tasktracker.event.outbox.OutboxWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Copies relayed task changes into {@code task_search_changes}, in the relay's transaction.
+ * Whichever instance relays a batch, {@link TaskSearchFeed} on every instance reads the rows
+ * from there, so no index misses changes relayed elsewhere.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSearchOutboxSink implements OutboxSink {
+
+    private static final String INSERT_SQL = "insert into task_search_changes "
+            + "(task_id, version, project_id, title, description, create_date) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = messages.stream()
+                .filter(message -> OutboxWriter.TASK_AGGREGATE.equals(message.aggregateType()))
+                .map(message -> toRow(message, now))
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    private Object[] toRow(OutboxMessage message, Timestamp now) {
+        try {
+            JsonNode payload = objectMapper.readTree(message.payload());
+            if (TaskChangedEvent.Type.DELETED.name().equals(message.eventType())) {
+                // Ranks the delete above every upsert of the task.
+                long version = payload.path("before").path("version").asLong() + 1;
+                return new Object[]{message.aggregateId(), version, null, null, null, now};
+            }
+            JsonNode after = payload.get("after");
+            return new Object[]{
+                    message.aggregateId(),
+                    after.get("version").asLong(),
+                    after.get("projectId").asLong(),
+                    after.get("title").asText(),
+                    after.hasNonNull("description") ? after.get("description").asText() : null,
+                    now};
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read outbox message " + message.id(), e);
+        }
+    }
+}
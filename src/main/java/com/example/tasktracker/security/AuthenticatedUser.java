@@ -0,0 +1,12 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.model.Role;
+
+public interface AuthenticatedUser {
+
+    Long getId();
+
+    String getEmail();
+
+    Role getRole();
+}
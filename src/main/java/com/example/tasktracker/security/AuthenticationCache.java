@@ -0,0 +1,117 @@
+package com.example.tasktracker.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Short-lived caches for the authentication hot path: verified token claims keyed by a
+ * SHA-256 digest of the token, and resolved principals keyed by email. Token entries never
+ * outlive the token's own expiration.
+ */
+@Component
+public class AuthenticationCache {
+
+    private final Cache<String, JwtClaims> verifiedTokens;
+    private final Cache<String, UserDetails> principals;
+
+    public AuthenticationCache(
+            @Value("${app.security.token-cache.max-size}") long tokenCacheMaxSize,
+            @Value("${app.security.token-cache.ttl-ms}") long tokenCacheTtlMs,
+            @Value("${app.security.principal-cache.max-size}") long principalCacheMaxSize,
+            @Value("${app.security.principal-cache.ttl-ms}") long principalCacheTtlMs) {
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new TokenExpiry(Duration.ofMillis(tokenCacheTtlMs)))
+                .build();
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(principalCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(principalCacheTtlMs))
+                .build();
+    }
+
+    public JwtClaims getVerifiedClaims(String token, Function<String, JwtClaims> verifier) {
+        String key = digest(token);
+        JwtClaims claims = verifiedTokens.getIfPresent(key);
+        if (claims != null && !claims.isExpired()) {
+            return claims;
+        }
+        claims = verifier.apply(token);
+        verifiedTokens.put(key, claims);
+        return claims;
+    }
+
+    public UserDetails getPrincipal(String email, Function<String, UserDetails> loader) {
+        return principals.get(email, loader);
+    }
+
+    /**
+     * Drops everything cached for the user. Entries are matched by id as well as by email, so
+     * those cached under an email the user has since changed are dropped too.
+     */
+    public void evictUser(Long userId, String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    doEvictUser(userId, email);
+                }
+            });
+        }
+        doEvictUser(userId, email);
+    }
+
+    private void doEvictUser(Long userId, String email) {
+        principals.invalidate(email);
+        if (userId != null) {
+            principals.asMap().values().removeIf(principal ->
+                    principal instanceof AuthenticatedUser user && userId.equals(user.getId()));
+        }
+        verifiedTokens.asMap().values().removeIf(claims ->
+                email.equals(claims.username()) || (userId != null && userId.equals(claims.userId())));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record TokenExpiry(Duration ttl) implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long ttlNanos = ttl.toNanos();
+            if (claims.expiration() == null) {
+                return ttlNanos;
+            }
+            long remainingMs = claims.expiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(ttlNanos, Duration.ofMillis(remainingMs).toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,10 +1,21 @@
 package com.example.tasktracker.security;
 
+import com.example.tasktracker.dto.ErrorResponse;
+import com.example.tasktracker.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,13 +26,25 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // Endpoints a client calls precisely because its access token no longer works.
+    private static final Set<String> PUBLIC_AUTH_PATHS = Set.of("/auth/login", "/auth/register", "/auth/refresh");
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final AuthenticationCache authenticationCache;
+    private final TokenVersionCache tokenVersionCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.security.stateless-principal}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(
@@ -39,11 +62,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7); 
-        userEmail = jwtService.extractUsername(jwt);
+        JwtClaims claims;
+        Timer.Sample parse = Timer.start(meterRegistry);
+        String parseOutcome = "failure";
+        try {
+            claims = authenticationCache.getVerifiedClaims(jwt, jwtService::parseToken);
+            parseOutcome = tokenRevocationList.isRevoked(claims.tokenId()) ? "rejected" : "success";
+        } catch (JwtException | IllegalArgumentException e) {
+            if (PUBLIC_AUTH_PATHS.contains(request.getServletPath())) {
+                // A stale header must not block the login or refresh that replaces it.
+                SecurityContextHolder.clearContext();
+                filterChain.doFilter(request, response);
+                return;
+            }
+            // Expired access tokens are routine; 401 tells the client to use its refresh token.
+            unauthorized(response, e instanceof ExpiredJwtException
+                    ? "Access token has expired."
+                    : "Access token is invalid.");
+            return;
+        } finally {
+            parse.stop(stageTimer("token_parse", parseOutcome));
+        }
+        if (!"success".equals(parseOutcome)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        userEmail = claims.username();
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            UserDetails userDetails;
+            boolean valid;
+            Timer.Sample lookup = Timer.start(meterRegistry);
+            String lookupOutcome = "failure";
+            try {
+                userDetails = resolvePrincipal(claims);
+                valid = userDetails != null && jwtService.isTokenValid(claims, userDetails);
+                lookupOutcome = valid ? "success" : "rejected";
+            } finally {
+                lookup.stop(stageTimer("user_lookup", lookupOutcome));
+            }
+            if (valid) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -56,4 +114,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private void unauthorized(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(HttpStatus.UNAUTHORIZED.value(), message));
+    }
+
+    private Timer stageTimer(String stage, String outcome) {
+        return Timer.builder("app.auth.filter")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private UserDetails resolvePrincipal(JwtClaims claims) {
+        if (statelessPrincipal && claims.userId() != null) {
+            return tokenVersionCache.isCurrent(claims.userId(), claims.tokenVersion())
+                    ? UserPrincipal.from(claims)
+                    : null;
+        }
+        UserDetails userDetails = authenticationCache.getPrincipal(claims.username(), userDetailsService::loadUserByUsername);
+        if (claims.tokenVersion() != null && userDetails instanceof User user
+                && user.getTokenVersion() != claims.tokenVersion()) {
+            return null;
+        }
+        return userDetails;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.tasktracker.security;
+
+import java.util.Date;
+import java.util.List;
+
+public record JwtClaims(String username, Long userId, List<String> roles, Integer tokenVersion, Date expiration,
+                        String tokenId) {
+
+    public boolean isExpired() {
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+}
@@ -1,80 +1,163 @@
 package com.example.tasktracker.security;
 
+import com.example.tasktracker.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
+/**
+ * Signs access tokens with the {@code app.jwt.key-id} key and verifies them against that key and
+ * any listed in {@code app.jwt.verification-keys}. The key ring comes only from configuration, so
+ * every instance accepts the same tokens. To rotate, deploy the new key as the signing key with the
+ * old one as a verification key, then drop the old one once its last tokens have expired.
+ */
 @Service
 public class JwtService {
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
+    private static final String ROLES_CLAIM = "roles";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
 
-    @Value("${app.jwt.expiration-ms}")
-    private long jwtExpiration;
+    private final long jwtExpiration;
+    private final String defaultKeyId;
+    private final Map<String, Key> signingKeys;
+    private final JwtParser parser;
+
+    public JwtService(String jwtSecret, String keyId, long jwtExpiration) {
+        this(jwtSecret, keyId, jwtExpiration, "");
+    }
+
+    /**
+     * @param verificationKeys comma-separated {@code keyId:base64Secret} pairs that are accepted
+     *                         but never used to sign
+     */
+    @Autowired
+    public JwtService(
+            @Value("${app.jwt.secret}") String jwtSecret,
+            @Value("${app.jwt.key-id}") String keyId,
+            @Value("${app.jwt.expiration-ms}") long jwtExpiration,
+            @Value("${app.jwt.verification-keys:}") String verificationKeys) {
+        this.jwtExpiration = jwtExpiration;
+        this.defaultKeyId = keyId;
+        Map<String, Key> keys = new HashMap<>();
+        for (String entry : StringUtils.commaDelimitedListToStringArray(verificationKeys)) {
+            if (!StringUtils.hasText(entry)) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("Verification key must be keyId:base64Secret: " + entry);
+            }
+            keys.put(parts[0], toKey(parts[1]));
+        }
+        keys.put(keyId, toKey(jwtSecret));
+        this.signingKeys = Map.copyOf(keys);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyRingResolver())
+                .build();
+    }
+
+    public JwtClaims parseToken(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        @SuppressWarnings("unchecked")
+        List<String> roles = claims.get(ROLES_CLAIM, List.class);
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get(USER_ID_CLAIM, Long.class),
+                roles == null ? List.of() : List.copyOf(roles),
+                claims.get(TOKEN_VERSION_CLAIM, Integer.class),
+                claims.getExpiration(),
+                claims.getId());
+    }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseToken(token).username();
+    }
+
+    public String generateToken(User user) {
+        return issueToken(user).token();
     }
 
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * Signs an access token with a fresh {@code jti}, which is what the revocation filter keys on.
+     */
+    public IssuedToken issueToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("roles", userDetails.getAuthorities().stream()
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        claims.put(ROLES_CLAIM, user.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .toList());
-        return generateToken(claims, userDetails);
+        return generateToken(claims, user);
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    public long getExpirationMs() {
+        return jwtExpiration;
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(parseToken(token), userDetails);
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        return claims.username().equals(userDetails.getUsername()) && !claims.isExpired();
     }
 
-    private String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return Jwts.builder()
+    private IssuedToken generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        String keyId = defaultKeyId;
+        String tokenId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        Date expiration = new Date(now + jwtExpiration);
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
                 .setClaims(extraClaims)
+                .setId(tokenId)
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(expiration)
+                .signWith(signingKeys.get(keyId), SignatureAlgorithm.HS256)
                 .compact();
+        return new IssuedToken(token, tokenId, expiration);
+    }
+
+    private static Key toKey(String base64Secret) {
+        byte[] keyBytes = Decoders.BASE64.decode(base64Secret);
+        return Keys.hmacShaKeyFor(keyBytes);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public record IssuedToken(String token, String tokenId, Date expiration) {
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private class KeyRingResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String keyId = header.getKeyId() != null ? header.getKeyId() : defaultKeyId;
+            Key key = signingKeys.get(keyId);
+            if (key == null) {
+                throw new SignatureException("Unknown signing key: " + keyId);
+            }
+            return key;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts failed logins per account and per client address in fixed windows of
+ * {@code app.security.login.failure-window-ms}. Once either limit is reached, further attempts
+ * are rejected with 429 until the window ends, before any user lookup or hash work is done.
+ * <p>
+ * An attempt is counted as a failure up front: {@link #reserveAttempt} checks both limits and
+ * increments both counters under the same locks, so a burst of concurrent logins cannot pass
+ * the check together and overshoot a limit. A success resets the account and gives the address
+ * its attempt back, and an attempt whose password was never checked is released entirely.
+ * <p>
+ * Counters live in lock-striped maps so concurrent logins for different keys rarely contend.
+ * Each stripe keeps at most its share of {@code app.security.login.tracked-keys} entries and
+ * drops the oldest one when full.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int maxFailuresPerAccount;
+    private final int maxFailuresPerAddress;
+    private final long windowNanos;
+
+    public LoginAttemptLimiter(
+            @Value("${app.security.login.max-failures-per-account}") int maxFailuresPerAccount,
+            @Value("${app.security.login.max-failures-per-address}") int maxFailuresPerAddress,
+            @Value("${app.security.login.failure-window-ms}") long windowMs,
+            @Value("${app.security.login.tracked-keys}") int trackedKeys) {
+        this.maxFailuresPerAccount = maxFailuresPerAccount;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        int perStripe = Math.max(1, trackedKeys / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(i, perStripe);
+        }
+    }
+
+    /**
+     * Counts one attempt against the account and the address, or throws 429 without counting it
+     * when either is already at its limit.
+     */
+    public void reserveAttempt(String account, String address) {
+        String accountKey = accountKey(account);
+        String addressKey = addressKey(address);
+        List<Stripe> locked = lockStripes(accountKey, addressKey);
+        try {
+            long now = System.nanoTime();
+            long waitNanos = Math.max(
+                    remainingLockout(accountKey, maxFailuresPerAccount, now),
+                    remainingLockout(addressKey, maxFailuresPerAddress, now));
+            if (waitNanos > 0) {
+                throw new TooManyRequestsException("Too many failed login attempts. Try again later.",
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos)));
+            }
+            increment(accountKey, now);
+            increment(addressKey, now);
+        } finally {
+            locked.forEach(stripe -> stripe.lock.unlock());
+        }
+    }
+
+    /**
+     * Takes back a reserved attempt whose password was never checked.
+     */
+    public void releaseAttempt(String account, String address) {
+        String accountKey = accountKey(account);
+        String addressKey = addressKey(address);
+        List<Stripe> locked = lockStripes(accountKey, addressKey);
+        try {
+            decrement(accountKey);
+            decrement(addressKey);
+        } finally {
+            locked.forEach(stripe -> stripe.lock.unlock());
+        }
+    }
+
+    public void recordSuccess(String account, String address) {
+        String accountKey = accountKey(account);
+        String addressKey = addressKey(address);
+        List<Stripe> locked = lockStripes(accountKey, addressKey);
+        try {
+            if (accountKey != null) {
+                stripeFor(accountKey).windows.remove(accountKey);
+            }
+            decrement(addressKey);
+        } finally {
+            locked.forEach(stripe -> stripe.lock.unlock());
+        }
+    }
+
+    // Locks the stripes of both keys in index order, so two callers never wait on each other.
+    private List<Stripe> lockStripes(String accountKey, String addressKey) {
+        List<Stripe> stripesToLock = new ArrayList<>(2);
+        if (accountKey != null) {
+            stripesToLock.add(stripeFor(accountKey));
+        }
+        if (addressKey != null && !stripesToLock.contains(stripeFor(addressKey))) {
+            stripesToLock.add(stripeFor(addressKey));
+        }
+        stripesToLock.sort(Comparator.comparingInt(stripe -> stripe.index));
+        stripesToLock.forEach(stripe -> stripe.lock.lock());
+        return stripesToLock;
+    }
+
+    private long remainingLockout(String key, int maxFailures, long now) {
+        if (key == null) {
+            return 0;
+        }
+        Window window = stripeFor(key).windows.get(key);
+        if (window == null || now - window.start >= windowNanos || window.failures < maxFailures) {
+            return 0;
+        }
+        return window.start + windowNanos - now;
+    }
+
+    private void increment(String key, long now) {
+        if (key == null) {
+            return;
+        }
+        Stripe stripe = stripeFor(key);
+        Window window = stripe.windows.get(key);
+        if (window == null || now - window.start >= windowNanos) {
+            window = new Window(now);
+            // Re-insert so the map's insertion order tracks window age for eviction.
+            stripe.windows.remove(key);
+            stripe.windows.put(key, window);
+        }
+        window.failures++;
+    }
+
+    private void decrement(String key) {
+        if (key == null) {
+            return;
+        }
+        Window window = stripeFor(key).windows.get(key);
+        if (window != null && window.failures > 0) {
+            window.failures--;
+        }
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static String accountKey(String account) {
+        return account == null ? null : "account:" + account;
+    }
+
+    private static String addressKey(String address) {
+        return address == null ? null : "address:" + address;
+    }
+
+    private static final class Stripe {
+        private final int index;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Window> windows;
+
+        private Stripe(int index, int capacity) {
+            this.index = index;
+            this.windows = new LinkedHashMap<>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+
+    private static final class Window {
+        private final long start;
+        private int failures;
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
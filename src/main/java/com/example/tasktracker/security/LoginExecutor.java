@@ -0,0 +1,107 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password verification on a fixed pool of {@code app.security.login.hash-threads}
+ * platform threads with a queue of {@code app.security.login.queue-capacity}. BCrypt is CPU
+ * bound, so a login storm is capped at the pool size instead of taking over request threads;
+ * once the queue is full, new logins are rejected immediately with 429. A login still waiting
+ * after {@code app.security.login.timeout-ms} is answered with 429 as well, so request threads
+ * are never held for longer than that.
+ * <p>
+ * The timeout only frees the request thread. A queued login is cancelled before it starts, and a
+ * running one is interrupted, but BCrypt never checks for interrupts: a hash already under way
+ * finishes on its pool thread and its result is dropped. In-flight hashes are therefore bounded
+ * by the pool size and queued ones by the queue capacity, not by the timeout.
+ */
+@Component
+public class LoginExecutor implements DisposableBean {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final long timeoutMs;
+
+    public LoginExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.login.hash-threads}") int hashThreads,
+            @Value("${app.security.login.queue-capacity}") int queueCapacity,
+            @Value("${app.security.login.timeout-ms}") long timeoutMs) {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new LoginThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "login");
+        this.timeoutMs = timeoutMs;
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            throw tooManyRequests();
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Stops a queued or blocked login; a running BCrypt hash ignores the interrupt and finishes.
+            future.cancel(true);
+            throw tooManyRequests();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Login failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for login", e);
+        }
+    }
+
+    private static TooManyRequestsException tooManyRequests() {
+        return new TooManyRequestsException("Too many concurrent login attempts. Try again shortly.", RETRY_AFTER_SECONDS);
+    }
+
+    int queuedTasks() {
+        return pool.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private static final class LoginThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "login-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
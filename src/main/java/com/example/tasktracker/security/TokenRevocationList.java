@@ -0,0 +1,186 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.model.RevokedToken;
+import com.example.tasktracker.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Access token ids ({@code jti}) revoked before their expiry, held in memory so the
+ * authentication hot path never queries the database. A Bloom filter rules out almost every
+ * token; a hit is confirmed against the exact set of active revoked ids loaded with it.
+ * <p>
+ * Both are rebuilt from {@code revoked_tokens} every {@code app.security.revocation.refresh-interval-ms},
+ * which also drops expired ids. Revocations made on this instance are added right after commit;
+ * other instances see them after their next rebuild. Ids added while a rebuild is reading the
+ * table are replayed into the new snapshot after the swap, so none are dropped.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double falsePositiveRate;
+    private volatile Snapshot snapshot;
+    private volatile Set<String> addedDuringRebuild;
+
+    public TokenRevocationList(
+            RevokedTokenRepository revokedTokenRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.security.revocation.false-positive-rate}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(new BloomFilter(MIN_CAPACITY, falsePositiveRate), ConcurrentHashMap.newKeySet());
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        return current.filter().mightContain(tokenId) && current.tokenIds().contains(tokenId);
+    }
+
+    /**
+     * Records the revocation in the caller's transaction. Tokens that have already expired are
+     * rejected by their signature check anyway and are not stored.
+     */
+    public void revoke(String tokenId, LocalDateTime expiresAt) {
+        if (!expiresAt.isAfter(LocalDateTime.now())) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addLocally(tokenId);
+                }
+            });
+        } else {
+            addLocally(tokenId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.refresh-interval-ms}")
+    public synchronized void rebuild() {
+        Set<String> added = ConcurrentHashMap.newKeySet();
+        addedDuringRebuild = added;
+        try {
+            List<String> tokenIds = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                revokedTokenRepository.deleteExpired(now);
+                return revokedTokenRepository.findActiveTokenIds(now);
+            });
+            // Leave headroom for local revocations until the next rebuild.
+            Snapshot rebuilt = new Snapshot(
+                    new BloomFilter(Math.max(MIN_CAPACITY, tokenIds.size() * 2), falsePositiveRate),
+                    ConcurrentHashMap.newKeySet(tokenIds.size()));
+            tokenIds.forEach(rebuilt::add);
+            snapshot = rebuilt;
+            added.forEach(rebuilt::add);
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild the token revocation filter, keeping the previous one", e);
+        } finally {
+            addedDuringRebuild = null;
+        }
+    }
+
+    // Records the id for a running rebuild before reading the snapshot: an id recorded too late
+    // to be replayed is added after the swap, into the new snapshot.
+    private void addLocally(String tokenId) {
+        Set<String> added = addedDuringRebuild;
+        if (added != null) {
+            added.add(tokenId);
+        }
+        snapshot.add(tokenId);
+    }
+
+    private record Snapshot(BloomFilter filter, Set<String> tokenIds) {
+
+        // The exact set first, so a reader that sees the filter bit also finds the id.
+        void add(String tokenId) {
+            tokenIds.add(tokenId);
+            filter.put(tokenId);
+        }
+    }
+
+    /**
+     * Classic Bloom filter over an {@link AtomicLongArray} bitset using double hashing. Bits are
+     * set with a compare-and-set loop, so concurrent {@link #put} calls never lose one another's bits.
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final int bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((bitCount + 63) >>> 6);
+        }
+
+        void put(String value) {
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+                setBit(index >>> 6, 1L << index);
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+                if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void setBit(int word, long mask) {
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+
+        // 64-bit FNV-1a followed by a murmur3 finalizer to spread the bits.
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
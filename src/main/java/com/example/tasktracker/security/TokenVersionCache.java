@@ -0,0 +1,41 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Current token version per user id. A token whose {@code ver} claim no longer matches has been
+ * revoked by a logout, role or password change. Local changes evict immediately; the TTL bounds
+ * how long other instances may accept a revoked token.
+ */
+@Component
+public class TokenVersionCache {
+
+    private static final int UNKNOWN_USER = -1;
+
+    private final LoadingCache<Long, Integer> versions;
+
+    public TokenVersionCache(
+            @Lazy UserRepository userRepository,
+            @Value("${app.security.token-version-cache.max-size}") long maxSize,
+            @Value("${app.security.token-version-cache.ttl-ms}") long ttlMs) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build(userId -> userRepository.findTokenVersionById(userId).orElse(UNKNOWN_USER));
+    }
+
+    public boolean isCurrent(Long userId, Integer tokenVersion) {
+        return tokenVersion != null && tokenVersion.equals(versions.get(userId));
+    }
+
+    public void evict(Long userId) {
+        versions.invalidate(userId);
+    }
+}
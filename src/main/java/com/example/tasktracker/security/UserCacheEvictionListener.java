@@ -0,0 +1,22 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+
+    private final AuthenticationCache authenticationCache;
+    private final TokenVersionCache tokenVersionCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        authenticationCache.evictUser(user.getId(), user.getEmail());
+        tokenVersionCache.evict(user.getId());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.model.Role;
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable principal rebuilt from signed token claims, used instead of the {@code User}
+ * entity when {@code app.security.stateless-principal} is enabled.
+ */
+@Value
+public class UserPrincipal implements AuthenticatedUser, UserDetails {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    Long id;
+    String email;
+    Role role;
+
+    public static UserPrincipal from(JwtClaims claims) {
+        Role role = claims.roles().stream()
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> Role.valueOf(authority.substring(ROLE_PREFIX.length())))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Token carries no role"));
+        return new UserPrincipal(claims.userId(), claims.username(), role);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(ROLE_PREFIX + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.tasktracker.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Runs {@code action} at most once per caller, endpoint and key, and records its body with
+     * {@code status}. A repeated request with the same key gets the stored status and body back.
+     * A request that arrives while the first one is still running waits for it and gets the same
+     * result. Without a key the action simply runs.
+     */
+    <T> IdempotentResult<T> execute(String idempotencyKey, String endpoint, Object request,
+                                    int status, Class<T> responseType, Supplier<T> action);
+
+    /**
+     * Same as {@link #execute}, for actions that answer with a list of {@code elementType}.
+     */
+    <T> IdempotentResult<List<T>> executeForList(String idempotencyKey, String endpoint, Object request,
+                                                 int status, Class<T> elementType, Supplier<List<T>> action);
+}
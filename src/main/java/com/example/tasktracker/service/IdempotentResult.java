@@ -0,0 +1,8 @@
+package com.example.tasktracker.service;
+
+/**
+ * Outcome of an idempotent action: the status and body of its response, and whether they were
+ * replayed from an earlier request with the same key instead of produced by running the action.
+ */
+public record IdempotentResult<T>(int status, T body, boolean replayed) {
+}
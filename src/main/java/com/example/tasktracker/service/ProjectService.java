@@ -1,18 +1,26 @@
 package com.example.tasktracker.service;
 
+import com.example.tasktracker.dto.CursorPageDto;
 import com.example.tasktracker.dto.project.CreateProjectRequestDto;
 import com.example.tasktracker.dto.project.ProjectResponseDto;
-import com.example.tasktracker.model.User;
-import java.util.List;
+import com.example.tasktracker.security.AuthenticatedUser;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.function.Consumer;
 
 public interface ProjectService {
-    ProjectResponseDto createProject(CreateProjectRequestDto requestDto, User owner);
+    ProjectResponseDto createProject(CreateProjectRequestDto requestDto, AuthenticatedUser owner);
+
+    Page<ProjectResponseDto> getAllProjects(Pageable pageable);
+
+    CursorPageDto<ProjectResponseDto> getProjectsAfter(Long afterId, int size);
 
-    List<ProjectResponseDto> getAllProjects();
+    void streamAllProjects(Consumer<ProjectResponseDto> consumer);
     
     ProjectResponseDto getProjectById(Long id);
     
-    ProjectResponseDto updateProject(Long id, CreateProjectRequestDto requestDto);
+    ProjectResponseDto updateProject(Long id, CreateProjectRequestDto requestDto, Long expectedVersion);
     
     void deleteProject(Long id);
 }
\ No newline at end of file
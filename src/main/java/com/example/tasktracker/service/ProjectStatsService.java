@@ -0,0 +1,15 @@
+package com.example.tasktracker.service;
+
+import com.example.tasktracker.dto.project.ProjectStatsDto;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectStatsService {
+
+    ProjectStatsDto getProjectStats(Long projectId);
+
+    List<ProjectStatsDto> getProjectStats(Collection<Long> projectIds);
+
+    void reconcile();
+}
@@ -0,0 +1,13 @@
+package com.example.tasktracker.service;
+
+import com.example.tasktracker.dto.user.UserLoginResponseDto;
+import com.example.tasktracker.model.User;
+
+public interface RefreshTokenService {
+
+    UserLoginResponseDto issueTokens(User user);
+
+    UserLoginResponseDto refresh(String refreshToken);
+
+    void revokeAll(Long userId);
+}
@@ -0,0 +1,20 @@
+package com.example.tasktracker.service;
+
+import com.example.tasktracker.stream.TaskStreamEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface TaskEventStreamService {
+
+    SseEmitter subscribe(Long projectId, String lastEventId);
+
+    /**
+     * Id of the last event handed to {@link #publish}, or of the latest logged event at startup.
+     */
+    long getPosition();
+
+    /**
+     * Sends one logged event to the project's subscribers. Events are handed over once each, in
+     * id order.
+     */
+    void publish(TaskStreamEvent event);
+}
@@ -0,0 +1,10 @@
+package com.example.tasktracker.service;
+
+import com.example.tasktracker.dto.task.TaskSearchResultDto;
+
+public interface TaskSearchService {
+
+    TaskSearchResultDto search(String query, Long projectId, int limit);
+
+    long rebuildIndex();
+}
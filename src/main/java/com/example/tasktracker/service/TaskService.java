@@ -1,22 +1,39 @@
 package com.example.tasktracker.service;
 
+import com.example.tasktracker.dto.CursorPageDto;
 import com.example.tasktracker.dto.task.*;
 import com.example.tasktracker.model.TaskPriority;
 import com.example.tasktracker.model.TaskStatus;
-import org.springframework.data.domain.Page;
+import com.example.tasktracker.repository.TaskListPage;
+import com.example.tasktracker.repository.TaskListVersion;
+import com.example.tasktracker.repository.VersionStamp;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface TaskService {
 
     TaskResponseDto createTask(CreateTaskRequestDto requestDto);
 
-    Page<TaskResponseDto> getAllTasksByProjectId(Long projectId, TaskStatus status, TaskPriority priority, Pageable pageable);
+    List<TaskBatchResultDto> createTasks(List<CreateTaskRequestDto> requestDtos);
+
+    TaskListPage getAllTasksByProjectId(Long projectId, TaskStatus status, TaskPriority priority, Pageable pageable,
+                                        TaskListVersion knownVersion);
+
+    CursorPageDto<TaskResponseDto> getTasksByProjectIdAfter(Long projectId, TaskStatus status, TaskPriority priority,
+                                                            String sort, String direction, String cursor, int size);
+
+    TaskListVersion getTaskListVersion(Long projectId, TaskStatus status, TaskPriority priority);
 
     TaskResponseDto getTaskById(Long taskId);
 
-    TaskResponseDto updateTask(Long taskId, UpdateTaskRequestDto requestDto);
+    VersionStamp getTaskVersion(Long taskId);
+
+    TaskResponseDto updateTask(Long taskId, UpdateTaskRequestDto requestDto, Long expectedVersion);
+
+    TaskResponseDto updateTaskStatus(Long taskId, UpdateTaskStatusRequestDto requestDto, Long expectedVersion);
 
-    TaskResponseDto updateTaskStatus(Long taskId, UpdateTaskStatusRequestDto requestDto);
+    List<TaskBatchResultDto> updateTaskStatuses(List<TaskStatusChangeDto> changes);
 
     void deleteTask(Long taskId);
 }
\ No newline at end of file
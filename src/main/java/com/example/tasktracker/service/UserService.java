@@ -1,5 +1,6 @@
 package com.example.tasktracker.service;
 
+import com.example.tasktracker.dto.user.RefreshTokenRequestDto;
 import com.example.tasktracker.dto.user.UserLoginRequestDto;
 import com.example.tasktracker.dto.user.UserLoginResponseDto;
 import com.example.tasktracker.dto.user.UserRegistrationRequestDto;
@@ -9,5 +10,9 @@ public interface UserService {
     
     UserResponseDto register(UserRegistrationRequestDto requestDto);
 
-    UserLoginResponseDto login(UserLoginRequestDto requestDto);
+    UserLoginResponseDto login(UserLoginRequestDto requestDto, String clientAddress);
+
+    UserLoginResponseDto refresh(RefreshTokenRequestDto requestDto);
+
+    void logout();
 }
\ No newline at end of file
@@ -0,0 +1,292 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.exception.IdempotencyConflictException;
+import com.example.tasktracker.exception.IdempotencyKeyMismatchException;
+import com.example.tasktracker.security.AuthenticatedUser;
+import com.example.tasktracker.service.IdempotencyService;
+import com.example.tasktracker.service.IdempotentResult;
+import com.example.tasktracker.util.SecurityUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Stores the response of each keyed request in a bounded Caffeine cache and in
+ * {@code idempotency_keys}, both for {@code app.idempotency.ttl-ms}. Keys are scoped to the
+ * caller and the endpoint and stored as SHA-256 digests, together with a digest of the request
+ * body so a key reused for a different request is rejected with 422.
+ * <p>
+ * Requests with the same key on this instance are coalesced on one future. Across instances
+ * the table row is claimed before the action runs: a second instance that finds the claim
+ * still in progress answers 409. A claim older than {@code app.idempotency.in-progress-timeout-ms}
+ * is treated as abandoned and taken over.
+ * <p>
+ * The action runs in a transaction that also records its response, and only while the claim
+ * is still the one this request made. The action's writes therefore commit together with the
+ * stored response or not at all: a claim left without a response after a crash means the action
+ * did not commit, so taking it over cannot run the action twice, and a slow request whose claim
+ * was taken over rolls back with 409. Side effects outside the database, such as events published
+ * after commit, follow the same transaction.
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int CLAIM_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final SecurityUtils securityUtils;
+    private final Duration ttl;
+    private final long waitTimeoutMs;
+    private final Duration inProgressTimeout;
+    private final Cache<String, StoredResponse> responses;
+    private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            SecurityUtils securityUtils,
+            @Value("${app.idempotency.ttl-ms}") long ttlMs,
+            @Value("${app.idempotency.cache-max-size}") long cacheMaxSize,
+            @Value("${app.idempotency.wait-timeout-ms}") long waitTimeoutMs,
+            @Value("${app.idempotency.in-progress-timeout-ms}") long inProgressTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.securityUtils = securityUtils;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.inProgressTimeout = Duration.ofMillis(inProgressTimeoutMs);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public <T> IdempotentResult<T> execute(String idempotencyKey, String endpoint, Object request,
+                                           int status, Class<T> responseType, Supplier<T> action) {
+        return execute(idempotencyKey, endpoint, request, status, objectMapper.constructType(responseType), action);
+    }
+
+    @Override
+    public <T> IdempotentResult<List<T>> executeForList(String idempotencyKey, String endpoint, Object request,
+                                                        int status, Class<T> elementType, Supplier<List<T>> action) {
+        return execute(idempotencyKey, endpoint, request, status,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, elementType), action);
+    }
+
+    private <T> IdempotentResult<T> execute(String idempotencyKey, String endpoint, Object request,
+                                            int status, JavaType responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return new IdempotentResult<>(status, action.get(), false);
+        }
+        AuthenticatedUser user = securityUtils.getCurrentUser();
+        String keyHash = digest((user == null ? "anonymous" : user.getId()) + "\n" + endpoint + "\n" + idempotencyKey);
+        String requestHash = digest(toJson(request));
+
+        StoredResponse stored = responses.getIfPresent(keyHash);
+        if (stored != null) {
+            return replay(stored, requestHash, responseType);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(keyHash, mine);
+        if (running != null) {
+            return replay(await(running), requestHash, responseType);
+        }
+        try {
+            Claim claim = claim(keyHash, requestHash);
+            if (claim.existing() != null) {
+                responses.put(keyHash, claim.existing());
+                mine.complete(claim.existing());
+                return replay(claim.existing(), requestHash, responseType);
+            }
+
+            Completed<T> completed;
+            try {
+                completed = transactionTemplate.execute(transaction -> {
+                    T body = action.get();
+                    StoredResponse result = new StoredResponse(requestHash, status, toJson(body));
+                    store(keyHash, claim.claimedAt(), result);
+                    return new Completed<>(body, result);
+                });
+            } catch (RuntimeException | Error e) {
+                release(keyHash, claim.claimedAt());
+                throw e;
+            }
+            responses.put(keyHash, completed.stored());
+            mine.complete(completed.stored());
+            return new IdempotentResult<>(status, completed.body(), false);
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(keyHash, mine);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms}")
+    public void deleteExpired() {
+        int deleted = jdbcTemplate.update("delete from idempotency_keys where expires_at < ?", Timestamp.valueOf(LocalDateTime.now()));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+
+    /**
+     * Inserts an in-progress row for the key. Returns the claim time once this request owns the
+     * key, or the stored response when the key has already completed.
+     */
+    private Claim claim(String keyHash, String requestHash) {
+        for (int attempt = 0; attempt < CLAIM_ATTEMPTS; attempt++) {
+            // Matches the column precision, so the claim can be compared with what was stored.
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            try {
+                jdbcTemplate.update("insert into idempotency_keys (key_hash, request_hash, expires_at, create_date) values (?, ?, ?, ?)",
+                        keyHash, requestHash, Timestamp.valueOf(now.plus(ttl)), Timestamp.valueOf(now));
+                return new Claim(now, null);
+            } catch (DuplicateKeyException e) {
+                List<ClaimedRow> rows = jdbcTemplate.query(
+                        "select request_hash, status_code, response_body, expires_at, create_date from idempotency_keys where key_hash = ?",
+                        (rs, rowNum) -> new ClaimedRow(
+                                new StoredResponse(rs.getString("request_hash"), rs.getObject("status_code", Integer.class), rs.getString("response_body")),
+                                rs.getTimestamp("expires_at").toLocalDateTime(),
+                                rs.getTimestamp("create_date").toLocalDateTime()),
+                        keyHash);
+                if (rows.isEmpty()) {
+                    continue;
+                }
+                ClaimedRow row = rows.get(0);
+                if (row.expiresAt().isBefore(now)) {
+                    jdbcTemplate.update("delete from idempotency_keys where key_hash = ? and expires_at < ?", keyHash, Timestamp.valueOf(now));
+                    continue;
+                }
+                if (row.response().statusCode() != null) {
+                    return new Claim(null, row.response());
+                }
+                if (row.createDate().isBefore(now.minus(inProgressTimeout)) && jdbcTemplate.update(
+                        "update idempotency_keys set request_hash = ?, create_date = ? where key_hash = ? and status_code is null and create_date = ?",
+                        requestHash, Timestamp.valueOf(now), keyHash, Timestamp.valueOf(row.createDate())) == 1) {
+                    log.warn("Taking over an abandoned idempotency key claimed at {}", row.createDate());
+                    return new Claim(now, null);
+                }
+                throw inProgress();
+            }
+        }
+        throw inProgress();
+    }
+
+    // Runs in the action's transaction; losing the claim rolls the action back.
+    private void store(String keyHash, LocalDateTime claimedAt, StoredResponse response) {
+        int updated = jdbcTemplate.update(
+                "update idempotency_keys set status_code = ?, response_body = ? where key_hash = ? and status_code is null and create_date = ?",
+                response.statusCode(), response.body(), keyHash, Timestamp.valueOf(claimedAt));
+        if (updated != 1) {
+            throw inProgress();
+        }
+    }
+
+    private void release(String keyHash, LocalDateTime claimedAt) {
+        try {
+            jdbcTemplate.update("delete from idempotency_keys where key_hash = ? and status_code is null and create_date = ?",
+                    keyHash, Timestamp.valueOf(claimedAt));
+        } catch (DataAccessException e) {
+            log.warn("Failed to release an idempotency key", e);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private <T> IdempotentResult<T> replay(StoredResponse stored, String requestHash, JavaType responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException("This Idempotency-Key was already used with a different request.");
+        }
+        try {
+            T body = stored.body() == null ? null : objectMapper.readValue(stored.body(), responseType);
+            return new IdempotentResult<>(stored.statusCode(), body, true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response cannot be read", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static IdempotencyConflictException inProgress() {
+        return new IdempotencyConflictException("A request with this Idempotency-Key is still in progress.");
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, Integer statusCode, String body) {
+    }
+
+    private record Claim(LocalDateTime claimedAt, StoredResponse existing) {
+    }
+
+    private record Completed<T>(T body, StoredResponse stored) {
+    }
+
+    private record ClaimedRow(StoredResponse response, LocalDateTime expiresAt, LocalDateTime createDate) {
+    }
+}
@@ -1,38 +1,86 @@
 package com.example.tasktracker.service.impl;
 
+import com.example.tasktracker.dto.CursorPageDto;
 import com.example.tasktracker.dto.project.CreateProjectRequestDto;
 import com.example.tasktracker.dto.project.ProjectResponseDto;
+import com.example.tasktracker.event.ProjectChangedEvent;
 import com.example.tasktracker.exception.EntityNotFoundException;
+import com.example.tasktracker.exception.InvalidPageRequestException;
+import com.example.tasktracker.exception.PreconditionFailedException;
 import com.example.tasktracker.mapper.ProjectMapper;
 import com.example.tasktracker.model.Project;
-import com.example.tasktracker.model.User;
 import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.security.AuthenticatedUser;
 import com.example.tasktracker.service.ProjectService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service 
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
     private final ProjectMapper projectMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    public ProjectResponseDto createProject(CreateProjectRequestDto requestDto, User owner) {
+    @Transactional
+    public ProjectResponseDto createProject(CreateProjectRequestDto requestDto, AuthenticatedUser owner) {
         Project project = projectMapper.toModel(requestDto);
-        project.setOwner(owner); 
+        project.setOwner(userRepository.getReferenceById(owner.getId()));
         Project savedProject = projectRepository.save(project);
-        return projectMapper.toDto(savedProject);
+        ProjectResponseDto created = projectMapper.toDto(savedProject);
+        eventPublisher.publishEvent(ProjectChangedEvent.created(created));
+        return created;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectResponseDto> getAllProjects(Pageable pageable) {
+        return projectRepository.findAllResponseDtos(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<ProjectResponseDto> getProjectsAfter(Long afterId, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE + ".");
+        }
+
+        List<Project> projects = projectRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(size + 1));
+
+        boolean hasNext = projects.size() > size;
+        List<Project> page = hasNext ? projects.subList(0, size) : projects;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+        return new CursorPageDto<>(page.stream().map(projectMapper::toDto).toList(), page.size(), hasNext, nextCursor);
     }
 
     @Override
-    public List<ProjectResponseDto> getAllProjects() {
-        return projectRepository.findAll()
-                .stream()
-                .map(projectMapper::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public void streamAllProjects(Consumer<ProjectResponseDto> consumer) {
+        try (Stream<Project> projects = projectRepository.streamAllByOrderByIdAsc()) {
+            projects.forEach(project -> {
+                consumer.accept(projectMapper.toDto(project));
+                // Keep the persistence context from growing with every row read.
+                entityManager.detach(project);
+            });
+        }
     }
 
     @Override
@@ -42,20 +90,30 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public ProjectResponseDto updateProject(Long id, CreateProjectRequestDto requestDto) {
+    @Transactional
+    public ProjectResponseDto updateProject(Long id, CreateProjectRequestDto requestDto, Long expectedVersion) {
         Project project = findProjectById(id);
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new PreconditionFailedException("Project " + id + " has been modified since version " + expectedVersion + ".");
+        }
+        ProjectResponseDto before = projectMapper.toDto(project);
 
         project.setName(requestDto.getName());
         project.setDescription(requestDto.getDescription());
         
-        Project updatedProject = projectRepository.save(project);
-        return projectMapper.toDto(updatedProject);
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        ProjectResponseDto updated = projectMapper.toDto(updatedProject);
+        eventPublisher.publishEvent(ProjectChangedEvent.updated(before, updated));
+        return updated;
     }
 
     @Override
+    @Transactional
     public void deleteProject(Long id) {
         Project project = findProjectById(id);
+        ProjectResponseDto before = projectMapper.toDto(project);
         projectRepository.delete(project);
+        eventPublisher.publishEvent(ProjectChangedEvent.deleted(id, before));
     }
     
     private Project findProjectById(Long id) {
@@ -0,0 +1,176 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.project.ProjectStatsDto;
+import com.example.tasktracker.exception.EntityNotFoundException;
+import com.example.tasktracker.model.Project;
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskGroupCount;
+import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.service.ProjectStatsService;
+import com.example.tasktracker.stats.TaskStatsDeltas;
+import com.example.tasktracker.stats.TaskStatsWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task statistics per project, read from the counters {@link TaskStatsWriter} keeps in the
+ * database. Every task write updates them in its own transaction, so all instances see the same
+ * counts as soon as the write commits.
+ * <p>
+ * The scheduled reconciler repairs drift from writes that bypass the task service, such as bulk
+ * seeding. It compares the counters with a count of {@code tasks} taken in the same snapshot and
+ * adds the difference to the counters. Task writes keep both in step, so the difference does not
+ * change while the reconciler works, and adding it is safe alongside concurrent writes.
+ */
+@Slf4j
+@Service
+public class ProjectStatsServiceImpl implements ProjectStatsService {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskStatsWriter taskStatsWriter;
+    private final TransactionTemplate snapshotTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProjectStatsServiceImpl(
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            JdbcTemplate jdbcTemplate,
+            TaskStatsWriter taskStatsWriter,
+            PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskStatsWriter = taskStatsWriter;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setReadOnly(true);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ProjectStatsDto getProjectStats(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+        return read(List.of(projectId)).get(0);
+    }
+
+    @Override
+    public List<ProjectStatsDto> getProjectStats(Collection<Long> projectIds) {
+        List<Long> requested = projectIds.stream().distinct().toList();
+        List<Long> existing = projectRepository.findAllById(requested).stream().map(Project::getId).toList();
+        return read(requested.stream().filter(existing::contains).toList());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms}", initialDelayString = "${app.stats.reconcile-interval-ms}")
+    public void reconcile() {
+        int corrected = 0;
+        long afterId = 0;
+        List<Long> batch;
+        do {
+            batch = jdbcTemplate.queryForList("select id from projects where id > ? order by id fetch first ? rows only",
+                    Long.class, afterId, RECONCILE_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            TaskStatsDeltas drift = new TaskStatsDeltas();
+            List<Long> projectIds = batch;
+            corrected += snapshotTemplate.execute(status -> addDrift(projectIds, drift));
+            if (!drift.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> taskStatsWriter.write(drift));
+            }
+            afterId = batch.get(batch.size() - 1);
+        } while (batch.size() == RECONCILE_BATCH_SIZE);
+
+        jdbcTemplate.update("delete from project_task_counts where task_count = 0");
+        jdbcTemplate.update("delete from project_task_due_counts where task_count = 0");
+        if (corrected > 0) {
+            log.info("Reconciled task statistics for {} projects", corrected);
+        }
+    }
+
+    private List<ProjectStatsDto> read(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProjectTaskCounts> counts = new HashMap<>();
+        Map<Long, Long> overdue = new HashMap<>();
+        List<Object> overdueArgs = new ArrayList<>(projectIds);
+        overdueArgs.add(Date.valueOf(LocalDate.now()));
+
+        snapshotTemplate.executeWithoutResult(status -> {
+            readCounts(projectIds, counts);
+            jdbcTemplate.query("select project_id, sum(task_count) as overdue from project_task_due_counts "
+                            + "where project_id in (" + placeholders(projectIds.size()) + ") and due_date < ? group by project_id",
+                    (RowCallbackHandler) rs -> overdue.put(rs.getLong("project_id"), rs.getLong("overdue")),
+                    overdueArgs.toArray());
+        });
+
+        return projectIds.stream()
+                .map(id -> counts.getOrDefault(id, new ProjectTaskCounts()).toDto(id, overdue.getOrDefault(id, 0L)))
+                .toList();
+    }
+
+    /**
+     * Counts the projects' tasks and reads their counters, both in the current snapshot, and
+     * adds any difference to {@code drift}. Returns the number of projects that differ.
+     */
+    private int addDrift(List<Long> projectIds, TaskStatsDeltas drift) {
+        Map<Long, ProjectTaskCounts> expected = new HashMap<>();
+        for (TaskGroupCount group : taskRepository.countGroupedByProjectIdIn(projectIds)) {
+            expected.computeIfAbsent(group.projectId(), id -> new ProjectTaskCounts())
+                    .addTasks(group.status(), group.priority(), group.dueDate(), group.count());
+        }
+
+        Map<Long, ProjectTaskCounts> counted = new HashMap<>();
+        readCounts(projectIds, counted);
+        jdbcTemplate.query("select project_id, due_date, task_count from project_task_due_counts "
+                        + "where project_id in (" + placeholders(projectIds.size()) + ")",
+                (RowCallbackHandler) rs -> counted.computeIfAbsent(rs.getLong("project_id"), id -> new ProjectTaskCounts())
+                        .addOpenDue(rs.getDate("due_date").toLocalDate(), rs.getLong("task_count")),
+                projectIds.toArray());
+
+        int differing = 0;
+        for (Long projectId : projectIds) {
+            ProjectTaskCounts actual = expected.getOrDefault(projectId, new ProjectTaskCounts());
+            if (actual.addDifference(projectId, counted.getOrDefault(projectId, new ProjectTaskCounts()), drift)) {
+                differing++;
+            }
+        }
+        return differing;
+    }
+
+    private void readCounts(List<Long> projectIds, Map<Long, ProjectTaskCounts> counts) {
+        jdbcTemplate.query("select project_id, status, priority, task_count from project_task_counts "
+                        + "where project_id in (" + placeholders(projectIds.size()) + ")",
+                (RowCallbackHandler) rs -> counts.computeIfAbsent(rs.getLong("project_id"), id -> new ProjectTaskCounts())
+                        .add(TaskStatus.valueOf(rs.getString("status")), TaskPriority.valueOf(rs.getString("priority")), rs.getLong("task_count")),
+                projectIds.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
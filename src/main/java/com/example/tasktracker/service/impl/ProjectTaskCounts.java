@@ -0,0 +1,89 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.project.ProjectStatsDto;
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+import com.example.tasktracker.stats.TaskStatsDeltas;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Task counters for one project, read from the counter tables or counted from {@code tasks}.
+ * Open (not DONE) tasks with a due date are also counted per date.
+ */
+final class ProjectTaskCounts {
+
+    private record Group(TaskStatus status, TaskPriority priority) {
+    }
+
+    private final Map<Group, Long> byGroup = new HashMap<>();
+    private final TreeMap<LocalDate, Long> openByDueDate = new TreeMap<>();
+
+    void add(TaskStatus status, TaskPriority priority, long count) {
+        merge(byGroup, new Group(status, priority), count);
+    }
+
+    void addOpenDue(LocalDate dueDate, long count) {
+        merge(openByDueDate, dueDate, count);
+    }
+
+    void addTasks(TaskStatus status, TaskPriority priority, LocalDate dueDate, long count) {
+        add(status, priority, count);
+        if (dueDate != null && status != TaskStatus.DONE) {
+            addOpenDue(dueDate, count);
+        }
+    }
+
+    ProjectStatsDto toDto(Long projectId, long overdue) {
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> priorityCounts = new EnumMap<>(TaskPriority.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            statusCounts.put(status, 0L);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            priorityCounts.put(priority, 0L);
+        }
+        long total = 0;
+        for (Map.Entry<Group, Long> entry : byGroup.entrySet()) {
+            total += entry.getValue();
+            statusCounts.merge(entry.getKey().status(), entry.getValue(), Long::sum);
+            priorityCounts.merge(entry.getKey().priority(), entry.getValue(), Long::sum);
+        }
+        return new ProjectStatsDto(projectId, total, statusCounts, priorityCounts, overdue);
+    }
+
+    /**
+     * Adds to {@code deltas} what turns the {@code counted} counters into these. Returns whether
+     * they differ at all.
+     */
+    boolean addDifference(long projectId, ProjectTaskCounts counted, TaskStatsDeltas deltas) {
+        if (byGroup.equals(counted.byGroup) && openByDueDate.equals(counted.openByDueDate)) {
+            return false;
+        }
+        Set<Group> groups = new HashSet<>(byGroup.keySet());
+        groups.addAll(counted.byGroup.keySet());
+        for (Group group : groups) {
+            long delta = byGroup.getOrDefault(group, 0L) - counted.byGroup.getOrDefault(group, 0L);
+            deltas.add(projectId, group.status(), group.priority(), delta);
+        }
+        Set<LocalDate> dueDates = new HashSet<>(openByDueDate.keySet());
+        dueDates.addAll(counted.openByDueDate.keySet());
+        for (LocalDate dueDate : dueDates) {
+            long delta = openByDueDate.getOrDefault(dueDate, 0L) - counted.openByDueDate.getOrDefault(dueDate, 0L);
+            deltas.addDue(projectId, dueDate, delta);
+        }
+        return true;
+    }
+
+    private static <K> void merge(Map<K, Long> map, K key, long count) {
+        if (map.merge(key, count, Long::sum) == 0) {
+            map.remove(key);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.user.UserLoginResponseDto;
+import com.example.tasktracker.model.RefreshToken;
+import com.example.tasktracker.model.User;
+import com.example.tasktracker.repository.RefreshTokenRepository;
+import com.example.tasktracker.security.JwtService;
+import com.example.tasktracker.security.TokenRevocationList;
+import com.example.tasktracker.service.RefreshTokenService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues opaque refresh tokens next to short-lived access tokens. Only a SHA-256 digest of each
+ * refresh token is stored. Every refresh rotates the token: the presented one is marked revoked
+ * and a new one is issued in the same family. Presenting a revoked token again means it was
+ * copied, so the whole family and the access tokens issued from it are revoked.
+ */
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final TokenRevocationList tokenRevocationList;
+    private final long refreshExpirationMs;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenServiceImpl(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtService jwtService,
+            TokenRevocationList tokenRevocationList,
+            @Value("${app.jwt.refresh-expiration-ms}") long refreshExpirationMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.refreshExpirationMs = refreshExpirationMs;
+    }
+
+    @Override
+    @Transactional
+    public UserLoginResponseDto issueTokens(User user) {
+        return issueTokens(user, UUID.randomUUID().toString());
+    }
+
+    // The family revocation on reuse must commit even though the caller gets an error.
+    @Override
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public UserLoginResponseDto refresh(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(digest(refreshToken))
+                .orElseThrow(RefreshTokenServiceImpl::invalidToken);
+        User user = current.getUser();
+        // A logout, role or password change bumps the token version and ends every session.
+        if (current.getExpiresAt().isBefore(LocalDateTime.now()) || current.getTokenVersion() != user.getTokenVersion()) {
+            throw invalidToken();
+        }
+        if (current.isRevoked()) {
+            log.warn("Refresh token reuse detected for user {}, revoking token family {}", user.getId(), current.getFamilyId());
+            revokeAccessTokens(refreshTokenRepository.findAccessTokenIdsByFamilyIdIssuedAfter(
+                    current.getFamilyId(), accessTokenIssuedAfter()));
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            throw invalidToken();
+        }
+        current.setRevoked(true);
+        return issueTokens(user, current.getFamilyId());
+    }
+
+    @Override
+    @Transactional
+    public void revokeAll(Long userId) {
+        revokeAccessTokens(refreshTokenRepository.findActiveAccessTokenIdsByUserIdIssuedAfter(userId, accessTokenIssuedAfter()));
+        refreshTokenRepository.revokeAllForUser(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.refresh-token-cleanup-interval-ms}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private UserLoginResponseDto issueTokens(User user, String familyId) {
+        JwtService.IssuedToken accessToken = jwtService.issueToken(user);
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken entity = new RefreshToken();
+        entity.setUser(user);
+        entity.setTokenHash(digest(refreshToken));
+        entity.setFamilyId(familyId);
+        entity.setAccessTokenId(accessToken.tokenId());
+        entity.setTokenVersion(user.getTokenVersion());
+        entity.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)));
+        refreshTokenRepository.save(entity);
+
+        return new UserLoginResponseDto(accessToken.token(), refreshToken, jwtService.getExpirationMs() / 1000);
+    }
+
+    private void revokeAccessTokens(Iterable<String> accessTokenIds) {
+        // Upper bound of their expiry; precise enough since the row is only kept until then.
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(jwtService.getExpirationMs()));
+        accessTokenIds.forEach(tokenId -> tokenRevocationList.revoke(tokenId, expiresAt));
+    }
+
+    private LocalDateTime accessTokenIssuedAfter() {
+        return LocalDateTime.now().minus(Duration.ofMillis(jwtService.getExpirationMs()));
+    }
+
+    private static BadCredentialsException invalidToken() {
+        return new BadCredentialsException("Invalid refresh token");
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
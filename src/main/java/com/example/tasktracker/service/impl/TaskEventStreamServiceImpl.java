@@ -0,0 +1,315 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.task.TaskEventDto;
+import com.example.tasktracker.exception.EntityNotFoundException;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.service.TaskEventStreamService;
+import com.example.tasktracker.stream.TaskEventLog;
+import com.example.tasktracker.stream.TaskStreamEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans task changes out to per-project SSE subscribers. Changes come from the shared
+ * {@code task_events} log through {@link com.example.tasktracker.stream.TaskEventFeed}, so
+ * subscribers also see changes made through other instances, and event ids mean the same on
+ * every instance.
+ * <p>
+ * Publishing only appends to a bounded replay buffer and offers the event to each subscriber's
+ * queue, so a commit never waits on a client socket. Every subscriber is drained by its own
+ * virtual thread, which parks cheaply while the connection is idle and sends a heartbeat
+ * comment when nothing arrives for a while. A subscriber whose queue overflows is disconnected
+ * and catches up when it reconnects with {@code Last-Event-ID}: from the replay buffer, or from
+ * the log for events older than the buffer. Only when the log no longer holds them either is
+ * the client told to resynchronise. A client resuming from an id this instance has not reached
+ * yet, because it was connected to an instance whose feed is ahead, is not sent that id again.
+ * <p>
+ * A project only has a channel while someone listens: changes to other projects are dropped,
+ * and a channel is evicted {@code app.events.idle-channel-ttl-ms} after its last subscriber
+ * left, or as soon as its project is deleted. A later resume then gets a resync.
+ */
+@Slf4j
+@Service
+public class TaskEventStreamServiceImpl implements TaskEventStreamService {
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final ProjectRepository projectRepository;
+    private final TaskEventLog taskEventLog;
+    private final int replaySize;
+    private final int subscriberQueueSize;
+    private final long heartbeatMs;
+    private final long emitterTimeoutMs;
+    private final long idleChannelTtlMs;
+    private final Map<Long, ProjectChannel> channels = new ConcurrentHashMap<>();
+    // Id of the last event published; events up to it that a new channel does not hold are in the log.
+    private volatile long position;
+
+    public TaskEventStreamServiceImpl(
+            ProjectRepository projectRepository,
+            TaskEventLog taskEventLog,
+            @Value("${app.events.replay-size}") int replaySize,
+            @Value("${app.events.subscriber-queue-size}") int subscriberQueueSize,
+            @Value("${app.events.heartbeat-ms}") long heartbeatMs,
+            @Value("${app.events.emitter-timeout-ms}") long emitterTimeoutMs,
+            @Value("${app.events.idle-channel-ttl-ms}") long idleChannelTtlMs) {
+        this.projectRepository = projectRepository;
+        this.taskEventLog = taskEventLog;
+        this.replaySize = replaySize;
+        // Room for a replay from the log and from the buffer, plus the resync notice.
+        this.subscriberQueueSize = Math.max(subscriberQueueSize, 2 * replaySize + 1);
+        this.heartbeatMs = heartbeatMs;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.idleChannelTtlMs = idleChannelTtlMs;
+        this.position = taskEventLog.latestId();
+    }
+
+    @Override
+    public SseEmitter subscribe(Long projectId, String lastEventId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Long resumeFrom = parseEventId(lastEventId);
+        Subscriber subscriber = new Subscriber(emitter, resumeFrom != null ? resumeFrom : 0);
+        // Registering inside compute keeps an idle sweep from dropping the channel in between.
+        ProjectChannel channel = channels.compute(projectId, (id, existing) -> {
+            ProjectChannel target = existing != null ? existing : new ProjectChannel(id);
+            target.subscribe(subscriber, resumeFrom);
+            return target;
+        });
+
+        Runnable remove = () -> {
+            channel.unsubscribe(subscriber);
+            subscriber.close();
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        subscriber.start("sse-project-" + projectId);
+        return emitter;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    // The position moves first and the event is published under the map's bin lock, so a channel
+    // created concurrently either receives the event or starts past it and finds it in the log.
+    @Override
+    public void publish(TaskStreamEvent event) {
+        position = event.id();
+        if (event.isProjectDeleted()) {
+            ProjectChannel channel = channels.remove(event.projectId());
+            if (channel != null) {
+                channel.completeAll();
+            }
+            return;
+        }
+        TaskEventDto dto = event.toDto();
+        channels.computeIfPresent(event.projectId(), (id, channel) -> {
+            channel.publish(dto);
+            return channel;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.idle-channel-ttl-ms}")
+    public void evictIdleChannels() {
+        long idleSince = System.currentTimeMillis() - idleChannelTtlMs;
+        for (Long projectId : channels.keySet()) {
+            channels.computeIfPresent(projectId, (id, channel) -> channel.isIdleSince(idleSince) ? null : channel);
+        }
+    }
+
+    boolean hasChannel(Long projectId) {
+        return channels.containsKey(projectId);
+    }
+
+    // Runs before graceful shutdown starts waiting for open requests, which these streams never finish on their own.
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        channels.values().forEach(ProjectChannel::completeAll);
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            // An id we never issued cannot be resumed from.
+            return 0L;
+        }
+    }
+
+    private final class ProjectChannel {
+
+        private final Long projectId;
+        private final Deque<TaskEventDto> buffer = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        // Highest id not in the buffer; a resume point below it is replayed from the log.
+        private long evictedUpTo = position;
+        private long lastSubscriberLeftAt = System.currentTimeMillis();
+
+        ProjectChannel(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        synchronized void publish(TaskEventDto dto) {
+            buffer.addLast(dto);
+            if (buffer.size() > replaySize) {
+                evictedUpTo = buffer.removeFirst().getId();
+            }
+
+            List<Subscriber> overflowed = new ArrayList<>();
+            for (Subscriber subscriber : subscribers) {
+                if (dto.getId() > subscriber.resumeAfter && !subscriber.offer(Outgoing.of(dto))) {
+                    overflowed.add(subscriber);
+                }
+            }
+            if (!overflowed.isEmpty()) {
+                subscribers.removeAll(overflowed);
+                lastSubscriberLeftAt = System.currentTimeMillis();
+                log.debug("Disconnecting {} slow SSE subscriber(s) of project {}", overflowed.size(), projectId);
+                overflowed.forEach(Subscriber::disconnect);
+            }
+        }
+
+        synchronized void subscribe(Subscriber subscriber, Long lastEventId) {
+            // Replay and registration happen under the publish lock, so no event is missed or sent twice.
+            if (lastEventId != null) {
+                if (lastEventId < evictedUpTo) {
+                    List<TaskEventDto> missed = findLogged(lastEventId);
+                    if (missed == null) {
+                        subscriber.offer(Outgoing.resync());
+                    } else {
+                        missed.forEach(dto -> subscriber.offer(Outgoing.of(dto)));
+                    }
+                }
+                for (TaskEventDto dto : buffer) {
+                    if (dto.getId() > lastEventId) {
+                        subscriber.offer(Outgoing.of(dto));
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+
+        private List<TaskEventDto> findLogged(long lastEventId) {
+            List<TaskStreamEvent> logged = taskEventLog.findForProject(projectId, lastEventId, evictedUpTo, replaySize);
+            return logged != null ? logged.stream().map(TaskStreamEvent::toDto).toList() : null;
+        }
+
+        synchronized void unsubscribe(Subscriber subscriber) {
+            if (subscribers.remove(subscriber)) {
+                lastSubscriberLeftAt = System.currentTimeMillis();
+            }
+        }
+
+        synchronized boolean isIdleSince(long timestamp) {
+            return subscribers.isEmpty() && lastSubscriberLeftAt < timestamp;
+        }
+
+        void completeAll() {
+            subscribers.forEach(Subscriber::disconnect);
+            subscribers.clear();
+        }
+    }
+
+    private record Outgoing(String name, Long id, Object data) {
+
+        // Wakes an idle drainer so it notices the subscriber was closed.
+        static final Outgoing STOP = new Outgoing(null, null, null);
+
+        static Outgoing of(TaskEventDto dto) {
+            return new Outgoing(dto.getType().name().toLowerCase(Locale.ROOT), dto.getId(), dto);
+        }
+
+        static Outgoing resync() {
+            return new Outgoing(RESYNC_EVENT, null, "Events were missed; reload the task list.");
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id != null ? event.id(String.valueOf(id)) : event;
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        // Events up to this id were already sent, possibly by another instance.
+        private final long resumeAfter;
+        private final BlockingQueue<Outgoing> queue = new ArrayBlockingQueue<>(subscriberQueueSize);
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, long resumeAfter) {
+            this.emitter = emitter;
+            this.resumeAfter = resumeAfter;
+        }
+
+        boolean offer(Outgoing outgoing) {
+            return !closed && queue.offer(outgoing);
+        }
+
+        void start(String name) {
+            Thread.ofVirtual().name(name).start(this::drain);
+        }
+
+        // Never interrupts the drainer, which may be in the middle of writing an event. A full
+        // queue rejects the sentinel, but then the drainer is busy and checks the flag next.
+        void close() {
+            closed = true;
+            queue.offer(Outgoing.STOP);
+        }
+
+        void disconnect() {
+            close();
+            emitter.complete();
+        }
+
+        private void drain() {
+            try {
+                // Commits the response headers right away instead of on the first event or heartbeat.
+                emitter.send(SseEmitter.event().comment("connected"));
+                while (!closed) {
+                    Outgoing outgoing = queue.poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                    if (closed || outgoing == Outgoing.STOP) {
+                        return;
+                    }
+                    if (outgoing != null) {
+                        emitter.send(outgoing.toEvent());
+                    } else {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed; the container finishes the request.
+                closed = true;
+            }
+        }
+    }
+}
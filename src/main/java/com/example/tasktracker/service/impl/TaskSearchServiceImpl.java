@@ -0,0 +1,99 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.dto.task.TaskSearchHitDto;
+import com.example.tasktracker.dto.task.TaskSearchResultDto;
+import com.example.tasktracker.exception.InvalidSearchQueryException;
+import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.search.TaskSearchFeed;
+import com.example.tasktracker.search.TaskSearchIndex;
+import com.example.tasktracker.service.TaskSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text task search. Lucene ranks the matching ids and the current rows are then loaded
+ * with one projection query, so results never show stale field values; ids deleted since
+ * they were indexed are dropped.
+ */
+@Slf4j
+@Service
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskSearchFeed taskSearchFeed;
+    private final TaskRepository taskRepository;
+    private final boolean rebuildOnStartup;
+
+    public TaskSearchServiceImpl(
+            TaskSearchIndex taskSearchIndex,
+            TaskSearchFeed taskSearchFeed,
+            TaskRepository taskRepository,
+            @Value("${app.search.rebuild-on-startup}") boolean rebuildOnStartup) {
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskSearchFeed = taskSearchFeed;
+        this.taskRepository = taskRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskSearchResultDto search(String query, Long projectId, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidSearchQueryException("Search query must not be blank.");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidSearchQueryException("Search limit must be between 1 and " + MAX_SEARCH_LIMIT + ".");
+        }
+
+        TaskSearchIndex.SearchResult result = taskSearchIndex.search(query, projectId, limit);
+        if (result.hits().isEmpty()) {
+            return new TaskSearchResultDto(result.totalHits(), List.of());
+        }
+
+        Map<Long, TaskResponseDto> tasksById = taskRepository.findResponseDtosByIdIn(
+                        result.hits().stream().map(TaskSearchIndex.Hit::taskId).toList())
+                .stream()
+                .collect(Collectors.toMap(TaskResponseDto::getId, Function.identity()));
+        List<TaskSearchHitDto> hits = result.hits().stream()
+                .map(hit -> {
+                    TaskResponseDto task = tasksById.get(hit.taskId());
+                    return task != null ? new TaskSearchHitDto(hit.score(), task) : null;
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        return new TaskSearchResultDto(result.totalHits(), hits);
+    }
+
+    @Override
+    public long rebuildIndex() {
+        long started = System.nanoTime();
+        long indexed = taskSearchFeed.rebuild(afterId ->
+                taskRepository.findSearchSourcesAfter(afterId, Limit.of(REBUILD_PAGE_SIZE)));
+        log.info("Rebuilt task search index with {} tasks in {} ms", indexed, (System.nanoTime() - started) / 1_000_000);
+        return indexed;
+    }
+
+    // Runs after the data loader, so seeded tasks are indexed too. A persisted index is only
+    // resumed while the change log still holds every row after its feed position.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup || taskSearchIndex.isEmpty() || !taskSearchFeed.canResume()) {
+            rebuildIndex();
+        }
+    }
+}
@@ -1,37 +1,69 @@
 package com.example.tasktracker.service.impl;
 
+import com.example.tasktracker.dto.CursorPageDto;
 import com.example.tasktracker.dto.task.*;
+import com.example.tasktracker.event.TaskChangedEvent;
 import com.example.tasktracker.exception.EntityNotFoundException;
+import com.example.tasktracker.exception.InvalidPageRequestException;
+import com.example.tasktracker.exception.PreconditionFailedException;
 import com.example.tasktracker.mapper.TaskMapper;
 import com.example.tasktracker.model.*;
 import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskCursor;
+import com.example.tasktracker.repository.TaskListPage;
+import com.example.tasktracker.repository.TaskListVersion;
 import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.repository.TaskSortField;
 import com.example.tasktracker.repository.TaskSpecification;
 import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.repository.VersionStamp;
+import com.example.tasktracker.security.AuthenticatedUser;
 import com.example.tasktracker.service.TaskService;
 import com.example.tasktracker.util.SecurityUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_STATUS_UPDATE_ATTEMPTS = 3;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TaskMapper taskMapper;
     private final SecurityUtils securityUtils;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
     public TaskResponseDto createTask(CreateTaskRequestDto requestDto) {
-        User currentUser = securityUtils.getCurrentUser();
+        AuthenticatedUser currentUser = securityUtils.getCurrentUser();
         Project project = findProjectById(requestDto.getProjectId());
 
         if (!project.getOwner().getId().equals(currentUser.getId())) {
@@ -47,30 +79,149 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
-        return taskMapper.toDto(savedTask);
+        TaskResponseDto createdTask = taskMapper.toDto(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(createdTask));
+        return createdTask;
     }
 
     @Override
-    public Page<TaskResponseDto> getAllTasksByProjectId(Long projectId, TaskStatus status, TaskPriority priority, Pageable pageable) {
+    @Transactional
+    public List<TaskBatchResultDto> createTasks(List<CreateTaskRequestDto> requestDtos) {
+        AuthenticatedUser currentUser = securityUtils.getCurrentUser();
+        TaskBatchResultDto[] results = new TaskBatchResultDto[requestDtos.size()];
+
+        Set<Long> projectIds = new HashSet<>();
+        Set<Long> assignedUserIds = new HashSet<>();
+        for (int i = 0; i < requestDtos.size(); i++) {
+            CreateTaskRequestDto requestDto = requestDtos.get(i);
+            String violations = validate(requestDto);
+            if (violations != null) {
+                results[i] = failure(i, HttpStatus.BAD_REQUEST, violations);
+                continue;
+            }
+            projectIds.add(requestDto.getProjectId());
+            if (requestDto.getAssignedUserId() != null) {
+                assignedUserIds.add(requestDto.getAssignedUserId());
+            }
+        }
+
+        Map<Long, Project> projects = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        Map<Long, User> assignedUsers = userRepository.findAllById(assignedUserIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskIndexes = new ArrayList<>();
+        for (int i = 0; i < requestDtos.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            CreateTaskRequestDto requestDto = requestDtos.get(i);
+            Project project = projects.get(requestDto.getProjectId());
+            if (project == null) {
+                results[i] = failure(i, HttpStatus.NOT_FOUND, "Project not found with id: " + requestDto.getProjectId());
+                continue;
+            }
+            if (!project.getOwner().getId().equals(currentUser.getId())) {
+                results[i] = failure(i, HttpStatus.FORBIDDEN, "Only the project owner can create tasks.");
+                continue;
+            }
+            User assignedUser = null;
+            if (requestDto.getAssignedUserId() != null) {
+                assignedUser = assignedUsers.get(requestDto.getAssignedUserId());
+                if (assignedUser == null) {
+                    results[i] = failure(i, HttpStatus.NOT_FOUND, "User not found with id: " + requestDto.getAssignedUserId());
+                    continue;
+                }
+            }
+            Task task = taskMapper.toModel(requestDto);
+            task.setProject(project);
+            task.setAssignedUser(assignedUser);
+            tasks.add(task);
+            taskIndexes.add(i);
+        }
+
+        List<Task> savedTasks = taskRepository.saveAllAndFlush(tasks);
+        for (int j = 0; j < savedTasks.size(); j++) {
+            int index = taskIndexes.get(j);
+            TaskResponseDto createdTask = taskMapper.toDto(savedTasks.get(j));
+            eventPublisher.publishEvent(TaskChangedEvent.created(createdTask));
+            results[index] = new TaskBatchResultDto(index, HttpStatus.CREATED.value(), createdTask, null);
+        }
+        return List.of(results);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskListPage getAllTasksByProjectId(Long projectId, TaskStatus status, TaskPriority priority, Pageable pageable,
+                                               TaskListVersion knownVersion) {
         Specification<Task> spec = TaskSpecification.build(projectId, status, priority);
-        return taskRepository.findAll(spec, pageable).map(taskMapper::toDto);
+        return taskRepository.findResponseDtoPage(spec, pageable, knownVersion);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskListVersion getTaskListVersion(Long projectId, TaskStatus status, TaskPriority priority) {
+        return taskRepository.findListVersion(TaskSpecification.build(projectId, status, priority));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<TaskResponseDto> getTasksByProjectIdAfter(Long projectId, TaskStatus status, TaskPriority priority,
+                                                                   String sort, String direction, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE + ".");
+        }
+
+        // A continuation token carries its own sort so that every page of a scan is ordered the same way.
+        TaskCursor position = cursor != null ? TaskCursor.decode(cursor) : null;
+        TaskSortField sortField = position != null ? position.sortField() : TaskSortField.fromProperty(sort);
+        Sort.Direction sortDirection = position != null ? position.direction() : parseDirection(direction);
+
+        Specification<Task> spec = TaskSpecification.build(projectId, status, priority)
+                .and(TaskSpecification.orderedBy(sortField, sortDirection));
+        if (position != null) {
+            spec = spec.and(TaskSpecification.after(position));
+        }
+
+        // One extra row tells us whether another page exists without a count query.
+        List<Task> tasks = taskRepository.findBy(spec, query -> query
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = tasks.size() > size;
+        List<Task> page = hasNext ? tasks.subList(0, size) : tasks;
+        String nextCursor = hasNext
+                ? TaskCursor.after(page.get(page.size() - 1), sortField, sortDirection).encode()
+                : null;
+        return new CursorPageDto<>(page.stream().map(taskMapper::toDto).toList(), page.size(), hasNext, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public TaskResponseDto getTaskById(Long taskId) {
-        Task task = findTaskById(taskId);
-        return taskMapper.toDto(task);
+        return taskRepository.findResponseDtoById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp getTaskVersion(Long taskId) {
+        return taskRepository.findVersionStampById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
     }
 
     @Override
     @Transactional
-    public TaskResponseDto updateTask(Long taskId, UpdateTaskRequestDto requestDto) {
-        User currentUser = securityUtils.getCurrentUser();
-        Task task = findTaskById(taskId);
+    public TaskResponseDto updateTask(Long taskId, UpdateTaskRequestDto requestDto, Long expectedVersion) {
+        AuthenticatedUser currentUser = securityUtils.getCurrentUser();
+        Task task = findTaskWithProjectById(taskId);
 
         if (!task.getProject().getOwner().getId().equals(currentUser.getId())) {
             throw new AccessDeniedException("Only the project owner can update task details.");
         }
+        checkVersion(task, expectedVersion);
+        TaskResponseDto before = taskMapper.toDto(task);
 
         if (requestDto.getTitle() != null) task.setTitle(requestDto.getTitle());
         if (requestDto.getDescription() != null) task.setDescription(requestDto.getDescription());
@@ -85,35 +236,139 @@ public class TaskServiceImpl implements TaskService {
             task.setAssignedUser(null); 
         }
 
-        Task updatedTask = taskRepository.save(task);
-        return taskMapper.toDto(updatedTask);
+        // Flushing here bumps the version, so the response carries the new ETag.
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        TaskResponseDto after = taskMapper.toDto(updatedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, after));
+        return after;
     }
 
     @Override
-    @Transactional
-    public TaskResponseDto updateTaskStatus(Long taskId, UpdateTaskStatusRequestDto requestDto) {
-        User currentUser = securityUtils.getCurrentUser();
+    public TaskResponseDto updateTaskStatus(Long taskId, UpdateTaskStatusRequestDto requestDto, Long expectedVersion) {
+        // Setting a status does not depend on the rest of the row, so a write that lost a race is
+        // replayed on the fresh row unless the caller pinned the version it read with If-Match.
+        return retryOnConflict(expectedVersion == null, () -> applyTaskStatus(taskId, requestDto.getStatus(), expectedVersion));
+    }
+
+    private TaskResponseDto applyTaskStatus(Long taskId, TaskStatus status, Long expectedVersion) {
+        AuthenticatedUser currentUser = securityUtils.getCurrentUser();
         Task task = findTaskById(taskId);
 
         if (task.getAssignedUser() == null || !task.getAssignedUser().getId().equals(currentUser.getId())) {
             throw new AccessDeniedException("Only the assigned user can update the task status.");
         }
+        checkVersion(task, expectedVersion);
+        TaskResponseDto before = taskMapper.toDto(task);
 
-        task.setStatus(requestDto.getStatus());
-        Task updatedTask = taskRepository.save(task);
-        return taskMapper.toDto(updatedTask);
+        task.setStatus(status);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        TaskResponseDto after = taskMapper.toDto(updatedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.statusChanged(before, after));
+        return after;
+    }
+
+    @Override
+    public List<TaskBatchResultDto> updateTaskStatuses(List<TaskStatusChangeDto> changes) {
+        return retryOnConflict(true, () -> applyTaskStatuses(changes));
+    }
+
+    private List<TaskBatchResultDto> applyTaskStatuses(List<TaskStatusChangeDto> changes) {
+        AuthenticatedUser currentUser = securityUtils.getCurrentUser();
+        TaskBatchResultDto[] results = new TaskBatchResultDto[changes.size()];
+
+        Set<Long> taskIds = new HashSet<>();
+        for (int i = 0; i < changes.size(); i++) {
+            String violations = validate(changes.get(i));
+            if (violations != null) {
+                results[i] = failure(i, HttpStatus.BAD_REQUEST, violations);
+                continue;
+            }
+            taskIds.add(changes.get(i).getTaskId());
+        }
+
+        Map<Long, Task> tasks = taskRepository.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<Integer> updatedIndexes = new ArrayList<>();
+        Map<Long, TaskResponseDto> beforeByTaskId = new HashMap<>();
+        for (int i = 0; i < changes.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            TaskStatusChangeDto change = changes.get(i);
+            Task task = tasks.get(change.getTaskId());
+            if (task == null) {
+                results[i] = failure(i, HttpStatus.NOT_FOUND, "Task not found with id: " + change.getTaskId());
+                continue;
+            }
+            if (task.getAssignedUser() == null || !task.getAssignedUser().getId().equals(currentUser.getId())) {
+                results[i] = failure(i, HttpStatus.FORBIDDEN, "Only the assigned user can update the task status.");
+                continue;
+            }
+            beforeByTaskId.putIfAbsent(task.getId(), taskMapper.toDto(task));
+            task.setStatus(change.getStatus());
+            updatedIndexes.add(i);
+        }
+
+        taskRepository.flush();
+        for (int index : updatedIndexes) {
+            Task task = tasks.get(changes.get(index).getTaskId());
+            results[index] = new TaskBatchResultDto(index, HttpStatus.OK.value(), taskMapper.toDto(task), null);
+        }
+        // One event per task with its final state, even if the batch changed it more than once.
+        beforeByTaskId.forEach((taskId, before) ->
+                eventPublisher.publishEvent(TaskChangedEvent.statusChanged(before, taskMapper.toDto(tasks.get(taskId)))));
+        return List.of(results);
     }
 
     @Override
     @Transactional
     public void deleteTask(Long taskId) {
-        User currentUser = securityUtils.getCurrentUser();
-        Task task = findTaskById(taskId);
+        AuthenticatedUser currentUser = securityUtils.getCurrentUser();
+        Task task = findTaskWithProjectById(taskId);
 
         if (!task.getProject().getOwner().getId().equals(currentUser.getId())) {
             throw new AccessDeniedException("Only the project owner can delete tasks.");
         }
+        TaskResponseDto before = taskMapper.toDto(task);
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(before));
+    }
+
+    private <T> T retryOnConflict(boolean retry, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (!retry || attempt >= MAX_STATUS_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task " + task.getId() + " has been modified since version " + expectedVersion + ".");
+        }
+    }
+
+    private String validate(Object requestDto) {
+        if (requestDto == null) {
+            return "Item must not be null.";
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(requestDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static TaskBatchResultDto failure(int index, HttpStatus status, String error) {
+        return new TaskBatchResultDto(index, status.value(), null, error);
     }
 
     private Task findTaskById(Long taskId) {
@@ -121,6 +376,11 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
     }
     
+    private Task findTaskWithProjectById(Long taskId) {
+        return taskRepository.findWithProjectById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
+    }
+
     private Project findProjectById(Long projectId) {
         return projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
@@ -130,4 +390,12 @@ public class TaskServiceImpl implements TaskService {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
     }
-}
\ No newline at end of file
+
+    private static Sort.Direction parseDirection(String direction) {
+        try {
+            return Sort.Direction.fromString(direction);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException("Unsupported sort direction: " + direction);
+        }
+    }
+}
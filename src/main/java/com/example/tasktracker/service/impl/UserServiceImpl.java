@@ -1,20 +1,30 @@
 package com.example.tasktracker.service.impl;
 
+import com.example.tasktracker.dto.user.RefreshTokenRequestDto;
 import com.example.tasktracker.dto.user.UserLoginRequestDto;
 import com.example.tasktracker.dto.user.UserLoginResponseDto;
 import com.example.tasktracker.dto.user.UserRegistrationRequestDto;
 import com.example.tasktracker.dto.user.UserResponseDto;
+import com.example.tasktracker.exception.EntityNotFoundException;
 import com.example.tasktracker.exception.RegistrationException;
 import com.example.tasktracker.mapper.UserMapper;
 import com.example.tasktracker.model.User;
 import com.example.tasktracker.repository.UserRepository;
-import com.example.tasktracker.security.JwtService;
+import com.example.tasktracker.security.LoginAttemptLimiter;
+import com.example.tasktracker.security.LoginExecutor;
+import com.example.tasktracker.service.RefreshTokenService;
 import com.example.tasktracker.service.UserService;
+import com.example.tasktracker.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +33,11 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
-    private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
     private final AuthenticationManager authenticationManager;
+    private final SecurityUtils securityUtils;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final LoginExecutor loginExecutor;
 
     @Override
     public UserResponseDto register(UserRegistrationRequestDto requestDto) {
@@ -41,16 +54,42 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public UserLoginResponseDto login(UserLoginRequestDto requestDto) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(requestDto.getEmail(), requestDto.getPassword())
-        );
+    public UserLoginResponseDto login(UserLoginRequestDto requestDto, String clientAddress) {
+        String account = requestDto.getEmail().trim().toLowerCase(Locale.ROOT);
+        loginAttemptLimiter.reserveAttempt(account, clientAddress);
 
-        User user = userRepository.findByEmail(requestDto.getEmail())
-                .orElseThrow(() -> new RuntimeException("User not found after authentication")); 
+        Authentication authentication;
+        try {
+            authentication = loginExecutor.execute(() -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(requestDto.getEmail(), requestDto.getPassword())
+            ));
+        } catch (AuthenticationException e) {
+            // The reserved attempt stays counted as a failure.
+            throw e;
+        } catch (RuntimeException | Error e) {
+            // Rejected, timed out or failed before the password was checked.
+            loginAttemptLimiter.releaseAttempt(account, clientAddress);
+            throw e;
+        }
+        loginAttemptLimiter.recordSuccess(account, clientAddress);
 
-        String jwtToken = jwtService.generateToken(user);
+        // The provider already loaded the user; reuse it instead of querying again.
+        User user = (User) authentication.getPrincipal();
+        return refreshTokenService.issueTokens(user);
+    }
 
-        return new UserLoginResponseDto(jwtToken);
+    @Override
+    public UserLoginResponseDto refresh(RefreshTokenRequestDto requestDto) {
+        return refreshTokenService.refresh(requestDto.getRefreshToken());
+    }
+
+    @Override
+    @Transactional
+    public void logout() {
+        Long userId = securityUtils.getCurrentUser().getId();
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
+        user.revokeTokens();
+        refreshTokenService.revokeAll(userId);
     }
 }
\ No newline at end of file
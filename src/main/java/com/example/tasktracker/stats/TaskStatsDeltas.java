@@ -0,0 +1,74 @@
+package com.example.tasktracker.stats;
+
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pending changes to {@code project_task_counts} and {@code project_task_due_counts}. Entries are
+ * kept sorted by key, so every writer locks counter rows in the same order and two transactions
+ * cannot deadlock on them.
+ */
+public class TaskStatsDeltas {
+
+    record CountKey(long projectId, TaskStatus status, TaskPriority priority) {
+    }
+
+    record DueKey(long projectId, LocalDate dueDate) {
+    }
+
+    private static final Comparator<CountKey> COUNT_ORDER = Comparator.comparingLong(CountKey::projectId)
+            .thenComparing(CountKey::status)
+            .thenComparing(CountKey::priority);
+
+    private static final Comparator<DueKey> DUE_ORDER = Comparator.comparingLong(DueKey::projectId)
+            .thenComparing(DueKey::dueDate);
+
+    private final Map<CountKey, Long> counts = new TreeMap<>(COUNT_ORDER);
+    private final Map<DueKey, Long> dueCounts = new TreeMap<>(DUE_ORDER);
+
+    /**
+     * Adds {@code delta} tasks like {@code task}: to its status and priority, and to its due date
+     * when it is still open.
+     */
+    public void addTask(TaskResponseDto task, long delta) {
+        if (task == null) {
+            return;
+        }
+        add(task.getProjectId(), task.getStatus(), task.getPriority(), delta);
+        if (task.getDueDate() != null && task.getStatus() != TaskStatus.DONE) {
+            addDue(task.getProjectId(), task.getDueDate(), delta);
+        }
+    }
+
+    public void add(long projectId, TaskStatus status, TaskPriority priority, long delta) {
+        merge(counts, new CountKey(projectId, status, priority), delta);
+    }
+
+    public void addDue(long projectId, LocalDate dueDate, long delta) {
+        merge(dueCounts, new DueKey(projectId, dueDate), delta);
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty() && dueCounts.isEmpty();
+    }
+
+    Map<CountKey, Long> counts() {
+        return counts;
+    }
+
+    Map<DueKey, Long> dueCounts() {
+        return dueCounts;
+    }
+
+    private static <K> void merge(Map<K, Long> map, K key, long delta) {
+        if (map.merge(key, delta, Long::sum) == 0) {
+            map.remove(key);
+        }
+    }
+}
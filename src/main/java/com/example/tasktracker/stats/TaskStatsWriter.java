@@ -0,0 +1,111 @@
+package com.example.tasktracker.stats;
+
+import com.example.tasktracker.event.TaskChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * Keeps {@code project_task_counts} and {@code project_task_due_counts} in step with
+ * {@code tasks}: every task change adds its deltas in the transaction that makes it, so the
+ * counters commit if and only if the change does, on whichever instance made it. Deltas are
+ * collected per transaction and applied just before commit as upserts, one per counter row.
+ */
+@Component
+public class TaskStatsWriter {
+
+    private static final String POSTGRES_COUNT_SQL = "insert into project_task_counts (project_id, status, priority, task_count) "
+            + "values (?, ?, ?, ?) on conflict (project_id, status, priority) "
+            + "do update set task_count = project_task_counts.task_count + excluded.task_count";
+
+    private static final String POSTGRES_DUE_SQL = "insert into project_task_due_counts (project_id, due_date, task_count) "
+            + "values (?, ?, ?) on conflict (project_id, due_date) "
+            + "do update set task_count = project_task_due_counts.task_count + excluded.task_count";
+
+    private static final String MERGE_COUNT_SQL = "merge into project_task_counts t "
+            + "using (values (cast(? as bigint), cast(? as varchar(32)), cast(? as varchar(32)), cast(? as bigint))) "
+            + "s (project_id, status, priority, task_count) "
+            + "on t.project_id = s.project_id and t.status = s.status and t.priority = s.priority "
+            + "when matched then update set task_count = t.task_count + s.task_count "
+            + "when not matched then insert (project_id, status, priority, task_count) "
+            + "values (s.project_id, s.status, s.priority, s.task_count)";
+
+    private static final String MERGE_DUE_SQL = "merge into project_task_due_counts t "
+            + "using (values (cast(? as bigint), cast(? as date), cast(? as bigint))) s (project_id, due_date, task_count) "
+            + "on t.project_id = s.project_id and t.due_date = s.due_date "
+            + "when matched then update set task_count = t.task_count + s.task_count "
+            + "when not matched then insert (project_id, due_date, task_count) values (s.project_id, s.due_date, s.task_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String countSql;
+    private final String dueSql;
+
+    public TaskStatsWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        boolean postgres = "PostgreSQL".equals(database);
+        this.countSql = postgres ? POSTGRES_COUNT_SQL : MERGE_COUNT_SQL;
+        this.dueSql = postgres ? POSTGRES_DUE_SQL : MERGE_DUE_SQL;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            TaskStatsDeltas deltas = new TaskStatsDeltas();
+            deltas.addTask(event.before(), -1);
+            deltas.addTask(event.after(), 1);
+            write(deltas);
+            return;
+        }
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.deltas.addTask(event.before(), -1);
+        pending.deltas.addTask(event.after(), 1);
+    }
+
+    /**
+     * Adds the deltas to the counters in the current transaction, if any. Counter rows that drop
+     * to zero are kept; the reconciler removes them.
+     */
+    public void write(TaskStatsDeltas deltas) {
+        List<Object[]> counts = deltas.counts().entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey().projectId(), entry.getKey().status().name(),
+                        entry.getKey().priority().name(), entry.getValue()})
+                .toList();
+        List<Object[]> dueCounts = deltas.dueCounts().entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey().projectId(), Date.valueOf(entry.getKey().dueDate()), entry.getValue()})
+                .toList();
+        if (!counts.isEmpty()) {
+            jdbcTemplate.batchUpdate(countSql, counts);
+        }
+        if (!dueCounts.isEmpty()) {
+            jdbcTemplate.batchUpdate(dueSql, dueCounts);
+        }
+    }
+
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final TaskStatsDeltas deltas = new TaskStatsDeltas();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            write(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TaskStatsWriter.this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.tasktracker.stream;
+
+import com.example.tasktracker.service.TaskEventStreamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hands {@code task_events} to this instance's SSE streams, with its own cursor over the row
+ * ids, so subscribers see changes made through any instance. The cursor starts where the
+ * stream service starts, and rows are kept for {@code app.events.feed.retention-ms} so
+ * reconnecting clients can be replayed from the log.
+ */
+@Slf4j
+@Component
+public class TaskEventFeed {
+
+    private final TaskEventLog taskEventLog;
+    private final TaskEventStreamService taskEventStreamService;
+    private final int batchSize;
+    private final long retentionMs;
+    private long cursor;
+
+    public TaskEventFeed(
+            TaskEventLog taskEventLog,
+            TaskEventStreamService taskEventStreamService,
+            @Value("${app.events.feed.batch-size}") int batchSize,
+            @Value("${app.events.feed.retention-ms}") long retentionMs) {
+        this.taskEventLog = taskEventLog;
+        this.taskEventStreamService = taskEventStreamService;
+        this.batchSize = batchSize;
+        this.retentionMs = retentionMs;
+        this.cursor = taskEventStreamService.getPosition();
+    }
+
+    /**
+     * Publishes every row after the cursor. Returns the number of rows published.
+     */
+    @Scheduled(fixedDelayString = "${app.events.feed.poll-interval-ms}", initialDelayString = "${app.events.feed.poll-interval-ms}")
+    public synchronized int poll() {
+        int published = 0;
+        try {
+            List<TaskStreamEvent> rows;
+            do {
+                rows = taskEventLog.findAfter(cursor, batchSize);
+                for (TaskStreamEvent row : rows) {
+                    taskEventStreamService.publish(row);
+                    cursor = row.id();
+                    published++;
+                }
+            } while (rows.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Task event feed failed; unpublished rows will be read again", e);
+        }
+        return published;
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.feed.cleanup-interval-ms}")
+    public void deleteExpired() {
+        int deleted = taskEventLog.deleteOlderThan(LocalDateTime.now().minusNanos(retentionMs * 1_000_000));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired task events", deleted);
+        }
+    }
+}
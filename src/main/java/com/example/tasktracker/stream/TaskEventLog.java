@@ -0,0 +1,74 @@
+package com.example.tasktracker.stream;
+
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads {@code task_events}, the event log shared by every instance's SSE streams. Ids are
+ * consecutive and assigned in commit order by {@link TaskEventOutboxSink}, so a reader never
+ * sees an id before all lower ones.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskEventLog {
+
+    private static final String SELECT_COLUMNS = "select id, project_id, task_id, event_type, payload from task_events";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final RowMapper<TaskStreamEvent> rowMapper = (rs, rowNum) -> new TaskStreamEvent(
+            rs.getLong("id"),
+            rs.getLong("project_id"),
+            rs.getObject("task_id", Long.class),
+            rs.getString("event_type"),
+            readTask(rs.getString("payload")));
+
+    public long latestId() {
+        return jdbcTemplate.queryForObject("select last_id from task_event_sequence", Long.class);
+    }
+
+    public List<TaskStreamEvent> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_COLUMNS + " where id > ? order by id fetch first ? rows only",
+                rowMapper, afterId, limit);
+    }
+
+    /**
+     * The project's events with ids in {@code (afterId, upToId]}, or null when expired rows
+     * leave a gap in that range or it holds more than {@code limit} events.
+     */
+    public List<TaskStreamEvent> findForProject(long projectId, long afterId, long upToId, int limit) {
+        Long oldestId = jdbcTemplate.queryForObject("select min(id) from task_events", Long.class);
+        if (oldestId == null || oldestId > afterId + 1) {
+            return null;
+        }
+        List<TaskStreamEvent> events = jdbcTemplate.query(
+                SELECT_COLUMNS + " where project_id = ? and id > ? and id <= ? order by id fetch first ? rows only",
+                rowMapper, projectId, afterId, upToId, limit + 1);
+        return events.size() > limit ? null : events;
+    }
+
+    public int deleteOlderThan(LocalDateTime cutoff) {
+        return jdbcTemplate.update("delete from task_events where create_date < ?", Timestamp.valueOf(cutoff));
+    }
+
+    private TaskResponseDto readTask(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(payload, TaskResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read task event payload", e);
+        }
+    }
+}
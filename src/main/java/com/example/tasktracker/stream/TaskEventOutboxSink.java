@@ -0,0 +1,78 @@
+package com.example.tasktracker.stream;
+
+import com.example.tasktracker.event.ProjectChangedEvent;
+import com.example.tasktracker.event.outbox.OutboxMessage;
+import com.example.tasktracker.event.outbox.OutboxSink;
+import com.example.tasktracker.event.outbox.OutboxWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copies relayed task changes and project deletions into {@code task_events}, in the relay's
+ * transaction, for {@link TaskEventFeed} on every instance.
+ * <p>
+ * Ids come from the single row of {@code task_event_sequence}, which stays locked until the
+ * relay commits. Concurrent relays therefore take turns, and ids are consecutive and follow
+ * commit order. A feed can then move its cursor past every row it reads without a settle window.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskEventOutboxSink implements OutboxSink {
+
+    private static final String INSERT_SQL = "insert into task_events "
+            + "(id, project_id, task_id, event_type, payload, create_date) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        List<OutboxMessage> streamed = messages.stream().filter(TaskEventOutboxSink::isStreamed).toList();
+        if (streamed.isEmpty()) {
+            return;
+        }
+        long lastId = jdbcTemplate.queryForObject("select last_id from task_event_sequence for update", Long.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(streamed.size());
+        for (OutboxMessage message : streamed) {
+            rows.add(toRow(++lastId, message, now));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        jdbcTemplate.update("update task_event_sequence set last_id = ?", lastId);
+    }
+
+    private static boolean isStreamed(OutboxMessage message) {
+        return OutboxWriter.TASK_AGGREGATE.equals(message.aggregateType())
+                || (OutboxWriter.PROJECT_AGGREGATE.equals(message.aggregateType())
+                && ProjectChangedEvent.Type.DELETED.name().equals(message.eventType()));
+    }
+
+    private Object[] toRow(long id, OutboxMessage message, Timestamp now) {
+        if (OutboxWriter.PROJECT_AGGREGATE.equals(message.aggregateType())) {
+            return new Object[]{id, message.aggregateId(), null, TaskStreamEvent.PROJECT_DELETED, null, now};
+        }
+        try {
+            JsonNode payload = objectMapper.readTree(message.payload());
+            JsonNode after = payload.get("after");
+            JsonNode task = after != null && !after.isNull() ? after : payload.get("before");
+            return new Object[]{
+                    id,
+                    task.get("projectId").asLong(),
+                    message.aggregateId(),
+                    message.eventType(),
+                    after != null && !after.isNull() ? after.toString() : null,
+                    now};
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read outbox message " + message.id(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.tasktracker.stream;
+
+import com.example.tasktracker.dto.task.TaskEventDto;
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.event.TaskChangedEvent;
+
+/**
+ * One row of {@code task_events}: a task change, or the deletion of a whole project.
+ * {@code task} is the task after the change, or null for deletions.
+ */
+public record TaskStreamEvent(long id, long projectId, Long taskId, String type, TaskResponseDto task) {
+
+    public static final String PROJECT_DELETED = "PROJECT_DELETED";
+
+    public boolean isProjectDeleted() {
+        return PROJECT_DELETED.equals(type);
+    }
+
+    public TaskEventDto toDto() {
+        return new TaskEventDto(id, TaskChangedEvent.Type.valueOf(type), projectId, taskId, task);
+    }
+}
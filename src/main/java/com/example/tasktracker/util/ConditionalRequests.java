@@ -0,0 +1,72 @@
+package com.example.tasktracker.util;
+
+import com.example.tasktracker.exception.PreconditionFailedException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Strong validators for conditional requests. A single resource's ETag is its id and
+ * optimistic-lock version, so an If-Match value maps straight back to the version an update
+ * must still see. Timestamps are compared at millisecond precision, so a value computed from an
+ * in-memory entity matches one computed after a round trip through the database.
+ */
+public final class ConditionalRequests {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalRequests() {
+    }
+
+    public static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    public static String etag(Object id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    public static String etag(long count, LocalDateTime lastModified) {
+        return "\"" + count + "-" + toEpochMilli(lastModified) + "\"";
+    }
+
+    /**
+     * Returns the version named by an If-Match header for the given resource, or {@code null}
+     * when the header is absent or {@code *}. A value that cannot match is rejected with 412.
+     */
+    public static Long expectedVersion(String ifMatch, Object id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (value.startsWith(prefix) && value.endsWith("\"") && value.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // Fall through to the precondition failure below.
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current version of resource " + id + ".");
+    }
+
+    /**
+     * Evaluates If-None-Match and If-Modified-Since, and writes the ETag, Last-Modified and
+     * Cache-Control headers. Returns {@code true} when the response has been set to 304.
+     */
+    public static boolean checkNotModified(ServletWebRequest request, String etag, LocalDateTime lastModified) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag, lastModified != null ? toEpochMilli(lastModified) : -1);
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.tasktracker.util;
+
+import com.example.tasktracker.service.IdempotentResult;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * HTTP side of idempotent requests: the key header clients send and the header that marks a
+ * replayed response.
+ */
+public final class IdempotentResponses {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private IdempotentResponses() {
+    }
+
+    public static <T> ResponseEntity<T> toResponseEntity(IdempotentResult<T> result) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(result.status());
+        if (result.replayed()) {
+            response.header(REPLAYED_HEADER, "true");
+        }
+        return response.body(result.body());
+    }
+}
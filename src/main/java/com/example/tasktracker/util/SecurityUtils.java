@@ -1,6 +1,6 @@
 package com.example.tasktracker.util;
 
-import com.example.tasktracker.model.User;
+import com.example.tasktracker.security.AuthenticatedUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -8,11 +8,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class SecurityUtils {
 
-    public User getCurrentUser() {
+    public AuthenticatedUser getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated() || authentication.getPrincipal().equals("anonymousUser")) {
             return null;
         }
-        return (User) authentication.getPrincipal();
+        return (AuthenticatedUser) authentication.getPrincipal();
     }
 }
\ No newline at end of file
@@ -0,0 +1,2 @@
+-- Bumped to invalidate every token issued to the user; existing users start at 0.
+alter table users add column token_version integer default 0 not null;
@@ -0,0 +1,45 @@
+create table users (
+    id bigint generated by default as identity,
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    role enum ('ADMIN','MANAGER','USER') not null,
+    create_date timestamp(6),
+    update_date timestamp(6),
+    primary key (id)
+);
+
+create table projects (
+    id bigint generated by default as identity,
+    name varchar(255) not null,
+    description varchar(255),
+    owner_id bigint not null,
+    create_date timestamp(6),
+    update_date timestamp(6),
+    primary key (id)
+);
+
+create table tasks (
+    id bigint generated by default as identity,
+    title varchar(255) not null,
+    description varchar(255),
+    status enum ('DONE','IN_PROGRESS','TODO') not null,
+    priority enum ('HIGH','LOW','MEDIUM') not null,
+    due_date date,
+    project_id bigint not null,
+    assigned_user_id bigint,
+    create_date timestamp(6),
+    update_date timestamp(6),
+    primary key (id)
+);
+
+-- Indexes come before the foreign keys so H2 reuses them instead of creating its own.
+create index idx_projects_owner on projects (owner_id);
+create index idx_tasks_project_status_priority on tasks (project_id, status, priority);
+create index idx_tasks_project_priority on tasks (project_id, priority);
+create index idx_tasks_project_create_date on tasks (project_id, create_date, id);
+create index idx_tasks_project_update_date on tasks (project_id, update_date, id);
+create index idx_tasks_assigned_user on tasks (assigned_user_id);
+
+alter table projects add constraint fk_projects_owner foreign key (owner_id) references users;
+alter table tasks add constraint fk_tasks_project foreign key (project_id) references projects;
+alter table tasks add constraint fk_tasks_assigned_user foreign key (assigned_user_id) references users;
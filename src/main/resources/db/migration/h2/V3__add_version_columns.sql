@@ -0,0 +1,3 @@
+-- Optimistic locking counters, incremented by Hibernate on every update.
+alter table projects add column version bigint default 0 not null;
+alter table tasks add column version bigint default 0 not null;
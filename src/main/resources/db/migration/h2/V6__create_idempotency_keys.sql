@@ -0,0 +1,13 @@
+-- Responses of create requests sent with an Idempotency-Key header. A row without a status code
+-- is a request still in progress; rows are deleted once they expire.
+create table idempotency_keys (
+    key_hash varchar(64) not null,
+    request_hash varchar(64) not null,
+    status_code integer,
+    response_body clob,
+    expires_at timestamp(6) not null,
+    create_date timestamp(6) not null,
+    primary key (key_hash)
+);
+
+create index idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
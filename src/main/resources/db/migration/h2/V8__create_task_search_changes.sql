@@ -0,0 +1,15 @@
+-- Task changes for the search index, copied here by the outbox relay and kept for
+-- app.search.feed.retention-ms so every instance can feed its own index from them.
+-- A row without a title is a delete.
+create table task_search_changes (
+    id bigint generated by default as identity,
+    task_id bigint not null,
+    version bigint not null,
+    project_id bigint,
+    title varchar(255),
+    description varchar(255),
+    create_date timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_task_search_changes_create_date on task_search_changes (create_date);
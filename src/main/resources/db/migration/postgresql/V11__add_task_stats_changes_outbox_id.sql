@@ -0,0 +1,3 @@
+-- The outbox message each row was relayed from, so counters loaded while the message was still
+-- in outbox_events can tell that the row is already part of what they counted.
+alter table task_stats_changes add column outbox_id bigint;
@@ -0,0 +1,35 @@
+-- Task counters per project, updated by the transaction that changes a task, replace the
+-- per-instance counters that were fed from task_stats_changes.
+drop table if exists task_stats_changes;
+
+create table project_task_counts (
+    project_id bigint not null,
+    status varchar(32) not null,
+    priority varchar(32) not null,
+    task_count bigint not null,
+    primary key (project_id, status, priority)
+);
+
+-- Open (not DONE) tasks with a due date, per date, so the overdue count is a sum over a range.
+create table project_task_due_counts (
+    project_id bigint not null,
+    due_date date not null,
+    task_count bigint not null,
+    primary key (project_id, due_date)
+);
+
+insert into project_task_counts (project_id, status, priority, task_count)
+select project_id, cast(status as varchar(32)), cast(priority as varchar(32)), count(*)
+from tasks
+group by project_id, status, priority;
+
+insert into project_task_due_counts (project_id, due_date, task_count)
+select project_id, due_date, count(*)
+from tasks
+where status <> 'DONE' and due_date is not null
+group by project_id, due_date;
+
+alter table project_task_counts add constraint fk_project_task_counts_project
+    foreign key (project_id) references projects on delete cascade;
+alter table project_task_due_counts add constraint fk_project_task_due_counts_project
+    foreign key (project_id) references projects on delete cascade;
@@ -0,0 +1,21 @@
+-- Task changes and project deletions for the SSE streams, copied here by the outbox relay and
+-- kept for app.events.feed.retention-ms so every instance can stream and replay them.
+-- Ids are assigned from task_event_sequence under a row lock, so they follow commit order.
+create table task_events (
+    id bigint not null,
+    project_id bigint not null,
+    task_id bigint,
+    event_type varchar(32) not null,
+    payload text,
+    create_date timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_task_events_project on task_events (project_id, id);
+create index idx_task_events_create_date on task_events (create_date);
+
+create table task_event_sequence (
+    last_id bigint not null
+);
+
+insert into task_event_sequence (last_id) values (0);
@@ -0,0 +1,33 @@
+create table if not exists users (
+    id bigint generated by default as identity,
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('ADMIN','MANAGER','USER')),
+    create_date timestamp(6),
+    update_date timestamp(6),
+    primary key (id)
+);
+
+create table if not exists projects (
+    id bigint generated by default as identity,
+    name varchar(255) not null,
+    description varchar(255),
+    owner_id bigint not null references users,
+    create_date timestamp(6),
+    update_date timestamp(6),
+    primary key (id)
+);
+
+create table if not exists tasks (
+    id bigint generated by default as identity,
+    title varchar(255) not null,
+    description varchar(255),
+    status varchar(255) not null check (status in ('TODO','IN_PROGRESS','DONE')),
+    priority varchar(255) not null check (priority in ('LOW','MEDIUM','HIGH')),
+    due_date date,
+    project_id bigint not null references projects,
+    assigned_user_id bigint references users,
+    create_date timestamp(6),
+    update_date timestamp(6),
+    primary key (id)
+);
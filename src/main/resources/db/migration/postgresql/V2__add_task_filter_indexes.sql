@@ -0,0 +1,7 @@
+-- Built without blocking writes to tasks; see V2__add_task_filter_indexes.sql.conf.
+create index concurrently if not exists idx_projects_owner on projects (owner_id);
+create index concurrently if not exists idx_tasks_project_status_priority on tasks (project_id, status, priority);
+create index concurrently if not exists idx_tasks_project_priority on tasks (project_id, priority);
+create index concurrently if not exists idx_tasks_project_create_date on tasks (project_id, create_date, id);
+create index concurrently if not exists idx_tasks_project_update_date on tasks (project_id, update_date, id);
+create index concurrently if not exists idx_tasks_assigned_user on tasks (assigned_user_id);
@@ -0,0 +1,10 @@
+-- Change events written in the same transaction as the entity change and drained by OutboxRelay.
+create table if not exists outbox_events (
+    id bigint generated by default as identity,
+    aggregate_type varchar(32) not null,
+    aggregate_id bigint not null,
+    event_type varchar(32) not null,
+    payload text not null,
+    create_date timestamp(6) not null,
+    primary key (id)
+);
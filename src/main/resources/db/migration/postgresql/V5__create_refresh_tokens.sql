@@ -0,0 +1,27 @@
+-- Refresh tokens are stored as SHA-256 digests. Rows in one family share a login; a rotated
+-- token is kept (revoked) so that presenting it again can be detected as reuse.
+create table if not exists refresh_tokens (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    token_hash varchar(64) not null unique,
+    family_id varchar(36) not null,
+    access_token_id varchar(36) not null,
+    token_version integer not null,
+    revoked boolean not null,
+    expires_at timestamp(6) not null,
+    create_date timestamp(6),
+    primary key (id)
+);
+
+-- Ids of access tokens revoked before their expiry, loaded into the revocation filter.
+create table if not exists revoked_tokens (
+    token_id varchar(36) not null,
+    expires_at timestamp(6) not null,
+    primary key (token_id)
+);
+
+create index if not exists idx_refresh_tokens_user on refresh_tokens (user_id);
+create index if not exists idx_refresh_tokens_family on refresh_tokens (family_id);
+create index if not exists idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
+
+alter table refresh_tokens add constraint fk_refresh_tokens_user foreign key (user_id) references users;
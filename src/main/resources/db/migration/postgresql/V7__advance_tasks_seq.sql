@@ -0,0 +1,7 @@
+-- Task ids come from tasks_seq from here on. Existing rows hold identity-generated ids, so move
+-- the sequence past them, but never backwards, so Hibernate's pooled blocks of 50 cannot collide.
+create sequence if not exists tasks_seq start with 1 increment by 50;
+
+select setval('tasks_seq', greatest(
+    (select coalesce(max(id), 0) + 50 from tasks),
+    (select last_value from tasks_seq)));
@@ -0,0 +1,17 @@
+-- Task changes for the per-project statistics, copied here by the outbox relay and kept for
+-- app.stats.feed.retention-ms so every instance can update its own counters from them.
+-- A row without a before status is a creation; one without an after status is a delete.
+create table if not exists task_stats_changes (
+    id bigint generated by default as identity,
+    project_id bigint not null,
+    before_status varchar(32),
+    before_priority varchar(32),
+    before_due_date date,
+    after_status varchar(32),
+    after_priority varchar(32),
+    after_due_date date,
+    create_date timestamp(6) not null,
+    primary key (id)
+);
+
+create index if not exists idx_task_stats_changes_create_date on task_stats_changes (create_date);
@@ -0,0 +1,88 @@
+package com.example.tasktracker.config;
+
+import com.example.tasktracker.model.Project;
+import com.example.tasktracker.model.Task;
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkseedertest",
+        // The JCache manager is JVM-wide, so a private database must not share second-level cache regions.
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "app.seed.tasks=1200",
+        "app.seed.users=20",
+        "app.seed.projects=10",
+        "app.seed.batch-size=500",
+        "app.seed.base-date=2030-01-01"
+})
+class BulkDataSeederTest {
+
+    private static final String FINGERPRINT_SQL = "select t.title, t.description, t.status, t.priority, t.due_date, p.name, u.email "
+            + "from tasks t join projects p on p.id = t.project_id left join users u on u.id = t.assigned_user_id "
+            + "where p.name like 'Seed Project %' order by t.id";
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    @DisplayName("Bulk Seeder - Seeds Configured Counts Deterministically")
+    void run_WithSameSeed_ShouldProduceSameRows() {
+        assertEquals(1200, count("select count(*) from tasks t join projects p on p.id = t.project_id where p.name like 'Seed Project %'"));
+        assertEquals(10, count("select count(*) from projects where name like 'Seed Project %'"));
+        assertEquals(2, count("select count(*) from users where email like 'seed-user-%' and role = 'MANAGER'"));
+        List<String> firstRun = fingerprint();
+
+        jdbcTemplate.update("delete from tasks where project_id in (select id from projects where name like 'Seed Project %')");
+        jdbcTemplate.update("delete from projects where name like 'Seed Project %'");
+        jdbcTemplate.update("delete from users where email like 'seed-user-%'");
+        bulkDataSeeder.run();
+
+        assertEquals(firstRun, fingerprint());
+    }
+
+    @Test
+    @DisplayName("Bulk Seeder - Reserved Task Ids Never Collide With JPA Inserts")
+    void run_ThenJpaInsert_ShouldNotReuseSeededIds() {
+        Project project = projectRepository.findAll().stream()
+                .filter(candidate -> candidate.getName().startsWith("Seed Project"))
+                .findFirst()
+                .orElseThrow();
+        for (int i = 0; i < 120; i++) {
+            Task task = new Task();
+            task.setTitle("Created after seeding " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(TaskPriority.LOW);
+            task.setProject(project);
+            assertDoesNotThrow(() -> taskRepository.saveAndFlush(task));
+        }
+        jdbcTemplate.update("delete from tasks where title like 'Created after seeding%'");
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private List<String> fingerprint() {
+        return jdbcTemplate.query(FINGERPRINT_SQL, (rs, rowNum) -> String.join("|",
+                rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                String.valueOf(rs.getDate(5)), rs.getString(6), String.valueOf(rs.getString(7))));
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.tasktracker.event.outbox;
+
+import com.example.tasktracker.dto.task.UpdateTaskRequestDto;
+import com.example.tasktracker.model.*;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A private database and a long poll interval keep other contexts' relays and the scheduler out of the way.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outboxrelaytest",
+        // The JCache manager is JVM-wide, so a private database must not share second-level cache regions.
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "app.outbox.poll-interval-ms=3600000",
+        "app.outbox.batch-size=2"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private RecordingSink recordingSink;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        User manager = userRepository.save(new User("manager-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+
+        Project project = new Project();
+        project.setName("Outbox Project");
+        project.setOwner(manager);
+        project = projectRepository.save(project);
+
+        task = new Task();
+        task.setTitle("Original Title");
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(project);
+        task = taskRepository.save(task);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+        jdbcTemplate.update("delete from outbox_events");
+        recordingSink.received.clear();
+        recordingSink.fail = false;
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Outbox - Row Written With The Committed Change")
+    void updateTask_ShouldWriteOutboxRowOnCommit() {
+        taskService.updateTask(task.getId(), rename("Renamed"), null);
+
+        List<OutboxMessage> rows = pendingRows();
+        assertEquals(1, rows.size());
+        assertEquals("Task", rows.get(0).aggregateType());
+        assertEquals(task.getId(), rows.get(0).aggregateId());
+        assertEquals("UPDATED", rows.get(0).eventType());
+        assertTrue(rows.get(0).payload().contains("\"title\":\"Renamed\""));
+    }
+
+    @Test
+    @DisplayName("Outbox - Rolled Back Change Leaves No Row")
+    void updateTask_WhenTransactionRollsBack_ShouldWriteNothing() {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.updateTask(task.getId(), rename("Never Committed"), null);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, pendingRows().size());
+    }
+
+    @Test
+    @DisplayName("Relay - Drains In Id Order In Batches")
+    void drain_ShouldDeliverEveryRowInOrderAndEmptyTheTable() {
+        for (int i = 1; i <= 3; i++) {
+            taskService.updateTask(task.getId(), rename("Edit " + i), null);
+        }
+        List<Long> ids = pendingRows().stream().map(OutboxMessage::id).toList();
+
+        assertEquals(2, outboxRelay.relayBatch());
+        outboxRelay.drain();
+
+        assertEquals(ids, recordingSink.received.stream().map(OutboxMessage::id).toList());
+        assertEquals(0, pendingRows().size());
+    }
+
+    @Test
+    @DisplayName("Relay - Failed Sink Leaves Batch For Retry")
+    void drain_WhenSinkFails_ShouldKeepRows() {
+        taskService.updateTask(task.getId(), rename("Edit"), null);
+        recordingSink.fail = true;
+
+        outboxRelay.drain();
+        assertEquals(1, pendingRows().size());
+
+        recordingSink.fail = false;
+        outboxRelay.drain();
+        assertEquals(0, pendingRows().size());
+        assertEquals(1, recordingSink.received.size());
+    }
+
+    @Test
+    @DisplayName("Relay - Aggregate With an Earlier Row Claimed Elsewhere Is Held Back")
+    void withoutAggregatesClaimedElsewhere_ShouldKeepPerAggregateOrder() {
+        List<OutboxMessage> batch = List.of(message(3, 1L), message(4, 2L), message(5, 3L));
+        // Row 1 (task 1) is claimed by another relay; row 2 belongs to an aggregate outside the batch.
+        List<OutboxMessage> earlier = List.of(message(1, 1L), message(2, 9L), message(3, 1L), message(4, 2L));
+
+        List<OutboxMessage> relayable = OutboxRelay.withoutAggregatesClaimedElsewhere(batch, earlier);
+
+        assertEquals(List.of(4L, 5L), relayable.stream().map(OutboxMessage::id).toList());
+        assertSame(batch, OutboxRelay.withoutAggregatesClaimedElsewhere(batch, batch));
+    }
+
+    private static OutboxMessage message(long id, Long taskId) {
+        return new OutboxMessage(id, "Task", taskId, "UPDATED", "{}", null);
+    }
+
+    private List<OutboxMessage> pendingRows() {
+        return jdbcTemplate.query("select * from outbox_events order by id", (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"), rs.getString("aggregate_type"), rs.getLong("aggregate_id"),
+                rs.getString("event_type"), rs.getString("payload"), rs.getTimestamp("create_date").toLocalDateTime()));
+    }
+
+    private static UpdateTaskRequestDto rename(String title) {
+        UpdateTaskRequestDto requestDto = new UpdateTaskRequestDto();
+        requestDto.setTitle(title);
+        return requestDto;
+    }
+
+    @TestConfiguration
+    static class SinkConfig {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+
+    static class RecordingSink implements OutboxSink {
+
+        final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+        volatile boolean fail;
+
+        @Override
+        public void publish(List<OutboxMessage> messages) {
+            if (fail) {
+                throw new IllegalStateException("Sink unavailable");
+            }
+            received.addAll(messages);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.tasktracker.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("Limit - Grows While Latency Is Flat and the Limit Is Used")
+    void onSuccess_WithFlatLatencyUnderLoad_ShouldGrowLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 0.2);
+
+        runSaturated(limit, FAST, 200);
+
+        assertTrue(limit.getLimit() > 10, "limit: " + limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Limit - Shrinks When Latency Rises")
+    void onSuccess_WithRisingLatency_ShouldShrinkLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 2, 100, 0.2);
+        runSaturated(limit, FAST, 200);
+        int before = limit.getLimit();
+
+        runSaturated(limit, SLOW, 1);
+
+        assertTrue(limit.getLimit() < before, "before: " + before + ", after: " + limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Limit - Failures Back Off but Never Below the Minimum")
+    void onFailure_ShouldBackOffToMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 100, 0.2);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire(1.0));
+            limit.onFailure();
+        }
+
+        assertEquals(4, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Priority - Low Priority Is Shed Before High Priority")
+    void tryAcquire_WithLowShare_ShouldRejectBeforeFullLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 0.2);
+
+        for (int i = 0; i < 7; i++) {
+            assertTrue(limit.tryAcquire(0.7));
+        }
+        assertFalse(limit.tryAcquire(0.7));
+        assertTrue(limit.tryAcquire(1.0));
+        assertTrue(limit.tryAcquire(1.0));
+        assertTrue(limit.tryAcquire(1.0));
+        assertFalse(limit.tryAcquire(1.0));
+    }
+
+    // Keeps the limit fully used so each sample is taken under load.
+    private static void runSaturated(AdaptiveConcurrencyLimit limit, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire(1.0)) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.onSuccess(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.tasktracker.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                true, 10, 2, 100, 0.2, 0.7, 2);
+    }
+
+    @Test
+    @DisplayName("Classify - Endpoints Map to Classes and Priorities")
+    void classify_ShouldGroupEndpoints() {
+        assertEquals(EndpointClass.AUTH, ConcurrencyLimitFilter.classify("POST", "/auth/login"));
+        assertEquals(EndpointClass.READ, ConcurrencyLimitFilter.classify("GET", "/api/tasks/42"));
+        assertEquals(EndpointClass.WRITE, ConcurrencyLimitFilter.classify("PATCH", "/api/tasks/42/status"));
+        assertNull(ConcurrencyLimitFilter.classify("GET", "/api/projects/7/events"));
+        assertNull(ConcurrencyLimitFilter.classify("GET", "/actuator/health"));
+
+        assertTrue(ConcurrencyLimitFilter.isLowPriority(EndpointClass.READ, "GET", "/api/tasks/project/7"));
+        assertTrue(ConcurrencyLimitFilter.isLowPriority(EndpointClass.READ, "GET", "/api/tasks/search"));
+        assertFalse(ConcurrencyLimitFilter.isLowPriority(EndpointClass.READ, "GET", "/api/tasks/42"));
+        assertFalse(ConcurrencyLimitFilter.isLowPriority(EndpointClass.WRITE, "PATCH", "/api/tasks/42/status"));
+        assertTrue(ConcurrencyLimitFilter.isLowPriority(EndpointClass.WRITE, "PUT", "/api/tasks/42"));
+    }
+
+    @Test
+    @DisplayName("Overload - Sheds Bulk Listings With 503 While Single Reads Pass")
+    void doFilter_WhenReadLimitIsNearlyFull_ShouldShedBulkListingsFirst() throws Exception {
+        AdaptiveConcurrencyLimit reads = filter.limitFor(EndpointClass.READ);
+        for (int i = 0; i < 7; i++) {
+            assertTrue(reads.tryAcquire(1.0));
+        }
+
+        MockHttpServletResponse listing = execute("GET", "/api/tasks/project/7");
+        MockHttpServletResponse single = execute("GET", "/api/tasks/42");
+
+        assertEquals(503, listing.getStatus());
+        assertEquals("2", listing.getHeader("Retry-After"));
+        assertTrue(listing.getContentAsString().contains("overloaded"));
+        assertEquals(200, single.getStatus());
+        assertEquals(1.0, meterRegistry.get("app.concurrency.rejected").tag("class", "read").counter().count());
+        assertEquals(7.0, meterRegistry.get("app.concurrency.in.flight").tag("class", "read").gauge().value());
+    }
+
+    private MockHttpServletResponse execute(String method, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.tasktracker.load;
+
+import com.example.tasktracker.Application;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the application once per execution mode (platform-thread Tomcat pool vs virtual
+ * threads) and drives the same concurrent read load against each, reporting p50/p99 latency.
+ * Run with {@code ./mvnw -Pload-test test}.
+ */
+@Tag("load")
+class ExecutionModeLoadTest {
+
+    private static final int CONCURRENT_CLIENTS = 200;
+    private static final int REQUESTS_PER_CLIENT = 25;
+    private static final double MAX_ERROR_RATE = 0.01;
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    @DisplayName("Platform vs Virtual Threads - p99 Latency Under Concurrent Reads")
+    void compareExecutionModes() throws Exception {
+        LoadResult platform = runLoad(false);
+        LoadResult virtual = runLoad(true);
+
+        System.out.printf("%n%-10s %8s %8s %8s %10s %8s%n", "mode", "p50 ms", "p99 ms", "max ms", "req/s", "errors");
+        System.out.println(platform.format("platform"));
+        System.out.println(virtual.format("virtual"));
+
+        assertTrue(platform.errorRate() <= MAX_ERROR_RATE, "platform-thread mode error rate too high");
+        assertTrue(virtual.errorRate() <= MAX_ERROR_RATE, "virtual-thread mode error rate too high");
+    }
+
+    private LoadResult runLoad(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads,
+                        "spring.jpa.show-sql=false")
+                // Measure the execution modes themselves, without load shedding.
+                .run("--app.concurrency.enabled=false")) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            String token = login(baseUrl);
+            // Warm up JIT and caches so both modes are measured in steady state.
+            drive(baseUrl, token, 50, 20);
+            return drive(baseUrl, token, CONCURRENT_CLIENTS, REQUESTS_PER_CLIENT);
+        }
+    }
+
+    private LoadResult drive(String baseUrl, String token, int clients, int requestsPerClient) throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int client = 0; client < clients; client++) {
+                int projectId = client % 6 + 1;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        String path = i % 2 == 0 ? "/api/tasks/project/" + projectId : "/api/projects/" + projectId;
+                        long requestStarted = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(
+                                    HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                            .header("Authorization", "Bearer " + token)
+                                            .GET()
+                                            .build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - requestStarted);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return LoadResult.of(latencies, errors.get(), System.nanoTime() - started);
+    }
+
+    private String login(String baseUrl) throws Exception {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"email\":\"admin@example.com\",\"password\":\"password123\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private record LoadResult(long p50Nanos, long p99Nanos, long maxNanos, double throughput, int requests, int errors) {
+
+        static LoadResult of(List<Long> latencies, int errors, long elapsedNanos) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return new LoadResult(
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    sorted.get(sorted.size() - 1),
+                    sorted.size() / (elapsedNanos / 1_000_000_000.0),
+                    sorted.size(),
+                    errors);
+        }
+
+        private static long percentile(List<Long> sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index));
+        }
+
+        double errorRate() {
+            return (double) errors / requests;
+        }
+
+        String format(String mode) {
+            return String.format("%-10s %8.1f %8.1f %8.1f %10.0f %8d",
+                    mode, p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6, throughput, errors);
+        }
+    }
+}
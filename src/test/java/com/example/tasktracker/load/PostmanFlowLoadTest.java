@@ -0,0 +1,346 @@
+package com.example.tasktracker.load;
+
+import com.example.tasktracker.Application;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replays the requests of the Postman collection against a bulk-seeded instance and reports
+ * throughput and p50/p99 per endpoint, plus a JSON report for comparing runs. Each virtual
+ * client logs in as a seeded manager and a seeded user, then loops over the collection in
+ * order: numeric ids in the collection are replaced with ids the client may act on, and
+ * deletes target what the client created earlier in the same loop.
+ * <p>
+ * Run with {@code ./mvnw -Pload-test test -Dtest=PostmanFlowLoadTest}. Sizes come from system
+ * properties ({@code load.tasks}, {@code load.clients}, {@code load.duration-seconds}, ...);
+ * point {@code load.datasource.url} at a local PostgreSQL to measure against it instead of H2.
+ * Load shedding is off unless {@code load.concurrency-limit=true}, so the report shows raw capacity.
+ */
+@Tag("load")
+class PostmanFlowLoadTest {
+
+    private static final Path COLLECTION = Path.of("postman/tasktracker.postman_collection.json");
+    private static final String PASSWORD = "password123";
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    private final long tasks = Long.getLong("load.tasks", 200_000);
+    private final int clients = Integer.getInteger("load.clients", 32);
+    private final int warmupSeconds = Integer.getInteger("load.warmup-seconds", 10);
+    private final int durationSeconds = Integer.getInteger("load.duration-seconds", 30);
+    private final String datasourceUrl = System.getProperty("load.datasource.url", "jdbc:h2:mem:load-flows");
+    private final Path reportPath = Path.of(System.getProperty("load.report", "target/load-report.json"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    @DisplayName("Postman Collection - Throughput And p50/p99 Per Endpoint")
+    void replayPostmanCollection() throws Exception {
+        List<RequestTemplate> templates = readCollection();
+
+        // Passed as command-line arguments so they win over application.properties.
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .run(applicationArguments())) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            Stats setupStats = new Stats();
+            List<Client> virtualClients = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                virtualClients.add(prepareClient(i, baseUrl, jdbcTemplate, setupStats));
+            }
+
+            run(templates, virtualClients, baseUrl, new Stats(), warmupSeconds);
+            Stats stats = run(templates, virtualClients, baseUrl, setupStats, durationSeconds);
+
+            System.out.printf("%n%-36s %9s %7s %9s %8s %8s %8s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+            stats.summaries(durationSeconds).forEach(summary -> System.out.println(summary.format()));
+            writeReport(stats);
+
+            assertTrue(stats.errorRate() <= MAX_ERROR_RATE, "error rate too high: " + stats.errorRate());
+        }
+    }
+
+    private String[] applicationArguments() {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=" + datasourceUrl,
+                "spring.jpa.show-sql=false",
+                "app.seed.tasks=" + tasks,
+                "app.seed.users=" + Integer.getInteger("load.users", 200),
+                "app.seed.projects=" + Integer.getInteger("load.projects", 2000),
+                "app.seed.random-seed=" + Long.getLong("load.random-seed", 42),
+                "app.concurrency.enabled=" + Boolean.getBoolean("load.concurrency-limit")));
+        if (datasourceUrl.startsWith("jdbc:postgresql:")) {
+            properties.add("spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect");
+            properties.add("spring.datasource.username=" + System.getProperty("load.datasource.username", "postgres"));
+            properties.add("spring.datasource.password=" + System.getProperty("load.datasource.password", "postgres"));
+        }
+        return properties.stream().map(property -> "--" + property).toArray(String[]::new);
+    }
+
+    private List<RequestTemplate> readCollection() throws Exception {
+        List<RequestTemplate> templates = new ArrayList<>();
+        for (JsonNode folder : objectMapper.readTree(COLLECTION.toFile()).get("item")) {
+            for (JsonNode item : folder.get("item")) {
+                JsonNode request = item.get("request");
+                String raw = request.get("url").get("raw").asText().replace("{{baseUrl}}", "");
+                // Logins happen once per client during setup and registering would grow the user table.
+                if (raw.startsWith("/auth/")) {
+                    continue;
+                }
+                int queryStart = raw.indexOf('?');
+                String path = queryStart < 0 ? raw : raw.substring(0, queryStart);
+                String query = queryStart < 0 ? "" : raw.substring(queryStart);
+                String method = request.get("method").asText();
+                boolean hasBody = !"GET".equals(method) && !"DELETE".equals(method) && request.hasNonNull("body")
+                        && !request.get("body").path("raw").asText().isBlank();
+                templates.add(new RequestTemplate(method, path.replaceAll("/\\d+", "/{id}"), query,
+                        hasBody ? (ObjectNode) objectMapper.readTree(request.get("body").get("raw").asText()) : null));
+            }
+        }
+        return templates;
+    }
+
+    private Client prepareClient(int index, String baseUrl, JdbcTemplate jdbcTemplate, Stats stats) throws Exception {
+        List<Map<String, Object>> managers = jdbcTemplate.queryForList(
+                "select id, email from users where email like 'seed-user-%' and role = 'MANAGER' order by id");
+        List<Map<String, Object>> users = jdbcTemplate.queryForList(
+                "select id, email from users where email like 'seed-user-%' and role = 'USER' order by id");
+        Map<String, Object> manager = managers.get(index % managers.size());
+        Map<String, Object> user = users.get(index % users.size());
+
+        Client client = new Client(
+                login(baseUrl, (String) manager.get("email"), stats),
+                login(baseUrl, (String) user.get("email"), stats),
+                ((Number) user.get("id")).longValue(),
+                jdbcTemplate.queryForList("select id from projects where owner_id = ? order by id", Long.class, manager.get("id")),
+                jdbcTemplate.queryForList("select t.id from tasks t join projects p on p.id = t.project_id "
+                        + "where p.owner_id = ? order by t.id fetch first 500 rows only", Long.class, manager.get("id")),
+                jdbcTemplate.queryForList("select id from tasks where assigned_user_id = ? order by id fetch first 500 rows only",
+                        Long.class, user.get("id")));
+        if (client.projectIds().isEmpty() || client.taskIds().isEmpty() || client.assignedTaskIds().isEmpty()) {
+            throw new IllegalStateException("Seeded data too small for client " + index + "; raise load.tasks");
+        }
+        return client;
+    }
+
+    private Stats run(List<RequestTemplate> templates, List<Client> virtualClients, String baseUrl, Stats stats,
+                      int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Client client : virtualClients) {
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        for (RequestTemplate template : templates) {
+                            replay(template, client, baseUrl, stats);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return stats;
+    }
+
+    private void replay(RequestTemplate template, Client client, String baseUrl, Stats stats) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = client.managerToken();
+        Long id;
+        ObjectNode body = template.body() != null ? template.body().deepCopy() : null;
+
+        switch (template.key()) {
+            case "DELETE /api/projects/{id}" -> id = client.createdProjectIds().pollFirst();
+            case "DELETE /api/tasks/{id}" -> id = client.createdTaskIds().pollFirst();
+            case "PATCH /api/tasks/{id}/status" -> {
+                id = pick(client.assignedTaskIds(), random);
+                token = client.userToken();
+            }
+            default -> id = template.path().startsWith("/api/projects/") || template.path().startsWith("/api/tasks/project/")
+                    ? pick(client.projectIds(), random)
+                    : pick(client.taskIds(), random);
+        }
+        if (template.path().contains("{id}") && id == null) {
+            return;
+        }
+        if (body != null && template.path().startsWith("/api/tasks")) {
+            if (body.has("projectId")) {
+                body.put("projectId", pick(client.projectIds(), random));
+            }
+            if (body.has("assignedUserId")) {
+                body.put("assignedUserId", client.userId());
+            }
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + template.path().replace("{id}", String.valueOf(id)) + template.query()))
+                .header("Authorization", "Bearer " + token)
+                .method(template.method(), body != null
+                        ? HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))
+                        : HttpRequest.BodyPublishers.noBody());
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+
+        HttpResponse<String> response = send(request.build(), template.key(), stats);
+        if (response != null && "POST".equals(template.method()) && response.statusCode() / 100 == 2) {
+            long createdId = objectMapper.readTree(response.body()).get("id").asLong();
+            (template.path().equals("/api/projects") ? client.createdProjectIds() : client.createdTaskIds()).addLast(createdId);
+        }
+    }
+
+    private String login(String baseUrl, String email, Stats stats) throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        objectMapper.writeValueAsString(Map.of("email", email, "password", PASSWORD))))
+                .build(), "POST /auth/login", stats);
+        if (response == null || response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + email);
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private HttpResponse<String> send(HttpRequest request, String endpoint, Stats stats) {
+        long started = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            // Counted as an error below, with status 0.
+        }
+        stats.record(endpoint, response != null ? response.statusCode() : 0, System.nanoTime() - started);
+        return response;
+    }
+
+    private void writeReport(Stats stats) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("datasource", datasourceUrl.replaceAll("//[^/@]*@", "//"));
+        report.put("tasks", tasks);
+        report.put("clients", clients);
+        report.put("durationSeconds", durationSeconds);
+        report.put("endpoints", stats.summaries(durationSeconds));
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+        System.out.println("Load report written to " + reportPath.toAbsolutePath());
+    }
+
+    private static Long pick(List<Long> ids, ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private record RequestTemplate(String method, String path, String query, ObjectNode body) {
+
+        String key() {
+            return method + " " + path;
+        }
+    }
+
+    private record Client(String managerToken, String userToken, long userId, List<Long> projectIds, List<Long> taskIds,
+                          List<Long> assignedTaskIds, ConcurrentLinkedDeque<Long> createdProjectIds,
+                          ConcurrentLinkedDeque<Long> createdTaskIds) {
+
+        Client(String managerToken, String userToken, long userId, List<Long> projectIds, List<Long> taskIds,
+               List<Long> assignedTaskIds) {
+            this(managerToken, userToken, userId, projectIds, taskIds, assignedTaskIds,
+                    new ConcurrentLinkedDeque<>(), new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    private static final class Stats {
+
+        private final Map<String, EndpointStats> byEndpoint = new ConcurrentHashMap<>();
+
+        void record(String endpoint, int status, long nanos) {
+            byEndpoint.computeIfAbsent(endpoint, key -> new EndpointStats()).record(status, nanos);
+        }
+
+        double errorRate() {
+            long requests = byEndpoint.values().stream().mapToLong(stats -> stats.latencies.size()).sum();
+            long errors = byEndpoint.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        List<Summary> summaries(int seconds) {
+            return new TreeMap<>(byEndpoint).entrySet().stream()
+                    .map(entry -> entry.getValue().summarize(entry.getKey(), seconds))
+                    .toList();
+        }
+    }
+
+    private static final class EndpointStats {
+
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+
+        void record(int status, long nanos) {
+            latencies.add(nanos);
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+            if (status < 200 || status >= 300) {
+                errors.increment();
+            }
+        }
+
+        Summary summarize(String endpoint, int seconds) {
+            List<Long> sorted;
+            synchronized (latencies) {
+                sorted = new ArrayList<>(latencies);
+            }
+            Collections.sort(sorted);
+            Map<String, Long> statusCounts = new TreeMap<>();
+            statuses.forEach((status, count) -> statusCounts.put(String.valueOf(status), count.sum()));
+            return new Summary(endpoint, sorted.size(), errors.sum(), sorted.size() / (double) seconds,
+                    percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6,
+                    sorted.get(sorted.size() - 1) / 1e6, statusCounts);
+        }
+
+        private static long percentile(List<Long> sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index));
+        }
+    }
+
+    private record Summary(String endpoint, int requests, long errors, double throughput, double p50Ms, double p99Ms,
+                           double maxMs, Map<String, Long> statuses) {
+
+        String format() {
+            return String.format("%-36s %9d %7d %9.1f %8.1f %8.1f %8.1f", endpoint, requests, errors, throughput, p50Ms, p99Ms, maxMs);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.tasktracker.metrics;
+
+import com.example.tasktracker.model.Project;
+import com.example.tasktracker.model.Role;
+import com.example.tasktracker.model.User;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.security.JwtService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+class MetricsTest {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private User manager;
+    private String managerToken;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        manager = userRepository.save(new User("metrics-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+        managerToken = jwtService.generateToken(manager);
+
+        project = new Project();
+        project.setName("Metrics Project");
+        project.setOwner(manager);
+        project = projectRepository.save(project);
+    }
+
+    @Test
+    @DisplayName("Service calls are timed with method, outcome and role tags")
+    void serviceCalls_AreTimedWithTags() throws Exception {
+        assertEquals(200, get("/api/tasks/project/" + project.getId(), managerToken).statusCode());
+        assertEquals(404, get("/api/tasks/" + Long.MAX_VALUE, managerToken).statusCode());
+
+        Timer success = meterRegistry.find(ServiceMetricsAspect.METRIC)
+                .tags("service", "TaskService", "method", "getAllTasksByProjectId", "outcome", "success", "role", "MANAGER")
+                .timer();
+        Timer clientError = meterRegistry.find(ServiceMetricsAspect.METRIC)
+                .tags("service", "TaskService", "method", "getTaskById", "outcome", "client_error", "role", "MANAGER")
+                .timer();
+        assertNotNull(success);
+        assertNotNull(clientError);
+        assertTrue(success.count() >= 1);
+        assertTrue(clientError.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Auth filter stages and per-request statement counts are recorded")
+    void authStagesAndStatementCounts_AreRecorded() throws Exception {
+        assertEquals(200, get("/api/tasks/project/" + project.getId(), managerToken).statusCode());
+
+        assertNotNull(meterRegistry.find("app.auth.filter").tags("stage", "token_parse", "outcome", "success").timer());
+        assertNotNull(meterRegistry.find("app.auth.filter").tags("stage", "user_lookup", "outcome", "success").timer());
+
+        DistributionSummary statements = meterRegistry.find(RequestMetricsFilter.STATEMENTS_METRIC)
+                .tags("method", "GET", "uri", "/api/tasks/project/{projectId}")
+                .summary();
+        assertNotNull(statements);
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.totalAmount() >= 1);
+    }
+
+    @Test
+    @DisplayName("Prometheus endpoint is admin-only and exposes repository and pool metrics")
+    void prometheusEndpoint_ExposesRepositoryAndPoolMetrics() throws Exception {
+        assertEquals(200, get("/api/tasks/project/" + project.getId(), managerToken).statusCode());
+        assertEquals(403, get("/actuator/prometheus", managerToken).statusCode());
+
+        User admin = userRepository.save(new User("metrics-admin-" + UUID.randomUUID() + "@example.com", "password", Role.ADMIN));
+        HttpResponse<String> response = get("/actuator/prometheus", jwtService.generateToken(admin));
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("app_service_seconds_count"));
+        assertTrue(response.body().contains("app_auth_filter_seconds_count"));
+        assertTrue(response.body().contains("hikaricp_connections_acquire_seconds"));
+        assertTrue(response.body().contains("spring_data_repository_invocations_seconds"));
+    }
+
+    private HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.dto.project.CreateProjectRequestDto;
+import com.example.tasktracker.model.Project;
+import com.example.tasktracker.model.Role;
+import com.example.tasktracker.model.User;
+import com.example.tasktracker.service.ProjectService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(new User("cache-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+        project = new Project();
+        project.setName("Cached Project");
+        project.setOwner(owner);
+        project = projectRepository.save(project);
+    }
+
+    @Test
+    @DisplayName("Find Project By ID - Served From Cache")
+    void findProjectById_ShouldHitSecondLevelCache() {
+        projectRepository.findById(project.getId());
+        statistics.clear();
+
+        assertTrue(projectRepository.findById(project.getId()).isPresent());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(Project.class.getName()).getHitCount());
+    }
+
+    @Test
+    @DisplayName("Update and Delete Project - Cache Stays Consistent")
+    void updateAndDeleteProject_ShouldNotServeStaleEntries() {
+        projectRepository.findById(project.getId());
+        CreateProjectRequestDto requestDto = new CreateProjectRequestDto();
+        requestDto.setName("Renamed Project");
+
+        projectService.updateProject(project.getId(), requestDto, null);
+        assertEquals("Renamed Project", projectRepository.findById(project.getId()).orElseThrow().getName());
+
+        projectService.deleteProject(project.getId());
+        assertTrue(projectRepository.findById(project.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Find User By Email - Served From Query Cache")
+    void findByEmail_ShouldHitQueryCache() {
+        userRepository.findByEmail(owner.getEmail());
+        statistics.clear();
+
+        assertTrue(userRepository.findByEmail(owner.getEmail()).isPresent());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("Cache Metrics - Published Per Region")
+    void cacheMetrics_ShouldBeRegistered() {
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", Project.class.getName())
+                .meter());
+    }
+}
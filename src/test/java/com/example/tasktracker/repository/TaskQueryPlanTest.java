@@ -0,0 +1,145 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.model.*;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.tasktracker.repository.TaskQueryPlanTest$StatementRecorder")
+class TaskQueryPlanTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(new User("plan-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+        project = new Project();
+        project.setName("Query Plan Project");
+        project.setOwner(owner);
+        project = projectRepository.save(project);
+    }
+
+    @Test
+    @DisplayName("Filter by Project - Seeks on Project")
+    void findByProject_ShouldUseProjectIndex() {
+        String sql = captureSql(() -> taskRepository.findAll(
+                TaskSpecification.build(project.getId(), null, null), PageRequest.of(0, 10)));
+
+        assertPlanSeeksOn(sql, "PROJECT_ID");
+    }
+
+    @Test
+    @DisplayName("Filter by Project and Status - Uses Status Index")
+    void findByProjectAndStatus_ShouldUseStatusPriorityIndex() {
+        String sql = captureSql(() -> taskRepository.findAll(
+                TaskSpecification.build(project.getId(), TaskStatus.TODO, null), PageRequest.of(0, 10)));
+
+        assertPlanUsesIndex(sql, "IDX_TASKS_PROJECT_STATUS_PRIORITY");
+    }
+
+    @Test
+    @DisplayName("Filter by Project, Status and Priority - Uses Status Index")
+    void findByProjectStatusAndPriority_ShouldUseStatusPriorityIndex() {
+        String sql = captureSql(() -> taskRepository.findAll(
+                TaskSpecification.build(project.getId(), TaskStatus.TODO, TaskPriority.HIGH), PageRequest.of(0, 10)));
+
+        assertPlanUsesIndex(sql, "IDX_TASKS_PROJECT_STATUS_PRIORITY");
+    }
+
+    @Test
+    @DisplayName("Filter by Project and Priority - Uses Priority Index")
+    void findByProjectAndPriority_ShouldUsePriorityIndex() {
+        String sql = captureSql(() -> taskRepository.findAll(
+                TaskSpecification.build(project.getId(), null, TaskPriority.HIGH), PageRequest.of(0, 10)));
+
+        assertPlanUsesIndex(sql, "IDX_TASKS_PROJECT_PRIORITY");
+    }
+
+    @Test
+    @DisplayName("Cursor Page by Create Date - Seeks on Project")
+    void findAfterCursor_ShouldSeekOnProject() {
+        TaskCursor cursor = new TaskCursor(TaskSortField.CREATE_DATE, Sort.Direction.DESC, 1L,
+                LocalDateTime.now());
+        String sql = captureSql(() -> taskRepository.findBy(
+                TaskSpecification.build(project.getId(), null, null)
+                        .and(TaskSpecification.orderedBy(TaskSortField.CREATE_DATE, Sort.Direction.DESC))
+                        .and(TaskSpecification.after(cursor)),
+                query -> query.limit(11).all()));
+
+        assertPlanSeeksOn(sql, "PROJECT_ID");
+    }
+
+    private String captureSql(Runnable query) {
+        StatementRecorder.STATEMENTS.clear();
+        query.run();
+        List<String> selects = StatementRecorder.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains("tasks"))
+                .toList();
+        assertFalse(selects.isEmpty(), "No task query was issued");
+        return selects.get(0);
+    }
+
+    private void assertPlanUsesIndex(String sql, String indexName) {
+        String plan = explain(sql);
+        assertTrue(plan.toUpperCase().contains(indexName), () -> "Expected " + indexName + " in plan:\n" + plan);
+        assertFalse(plan.contains("tableScan"), () -> "Unexpected table scan in plan:\n" + plan);
+    }
+
+    // H2 also backs every foreign key with its own index, so any index whose leading condition is the column will do.
+    private void assertPlanSeeksOn(String sql, String column) {
+        String plan = explain(sql);
+        assertTrue(plan.toUpperCase().matches("(?s).*/\\* PUBLIC\\.\\w+: " + column + " = .*"),
+                () -> "Expected an index seek on " + column + " in plan:\n" + plan);
+        assertFalse(plan.contains("tableScan"), () -> "Unexpected table scan in plan:\n" + plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement statement) -> {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+
+    public static class StatementRecorder implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.tasktracker.repository;
+
+import com.example.tasktracker.model.Project;
+import com.example.tasktracker.model.Task;
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+import com.example.tasktracker.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tasksequencemigrationtest",
+        // The JCache manager is JVM-wide, so a private database must not share second-level cache regions.
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class TaskSequenceMigrationTest {
+
+    private static final int LEGACY_TASKS = 120;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the V1 schema outside Flyway and fills it with rows carrying identity-style ids, as
+     * a database left by {@code ddl-auto=update} would, so the migration baselines it at V1 and
+     * only applies the later versions. Running V1 again would fail on the existing tables.
+     */
+    @TestConfiguration
+    static class LegacyRowsMigrationStrategy {
+
+        @Bean
+        FlywayMigrationStrategy legacyRowsBeforeLatest() {
+            return flyway -> {
+                DataSource dataSource = flyway.getConfiguration().getDataSource();
+                new ResourceDatabasePopulator(new ClassPathResource("db/migration/h2/V1__create_schema.sql")).execute(dataSource);
+                JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+                jdbc.update("insert into users (id, email, password, role) values (1000, 'legacy@example.com', 'password', 'MANAGER')");
+                jdbc.update("insert into projects (id, name, owner_id) values (1000, 'Legacy Project', 1000)");
+                for (long id = 1; id <= LEGACY_TASKS; id++) {
+                    jdbc.update("insert into tasks (id, title, status, priority, project_id) values (?, ?, 'TODO', 'LOW', 1000)",
+                            id, "Legacy task " + id);
+                }
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Test
+    @DisplayName("Task Sequence - New Tasks Get Ids Past Existing Rows")
+    void save_AfterMigratingExistingRows_ShouldNotReuseIds() {
+        Project project = projectRepository.findById(1000L).orElseThrow();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Task task = new Task();
+            task.setTitle("New task " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setProject(project);
+            tasks.add(task);
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+
+        assertTrue(saved.stream().allMatch(task -> task.getId() > LEGACY_TASKS));
+        assertEquals(LEGACY_TASKS + 60, jdbcTemplate.queryForObject(
+                "select count(*) from tasks where project_id = 1000", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Token Version - Existing Users Start At Zero")
+    void findById_AfterMigratingExistingUser_ShouldHaveTokenVersionZero() {
+        User user = userRepository.findById(1000L).orElseThrow();
+
+        assertEquals(0, user.getTokenVersion());
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.tasktracker.search;
+
+import com.example.tasktracker.dto.task.TaskSearchHitDto;
+import com.example.tasktracker.dto.task.TaskSearchResultDto;
+import com.example.tasktracker.dto.task.UpdateTaskRequestDto;
+import com.example.tasktracker.event.outbox.OutboxRelay;
+import com.example.tasktracker.exception.InvalidSearchQueryException;
+import com.example.tasktracker.model.*;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.repository.TaskSearchSource;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.service.TaskSearchService;
+import com.example.tasktracker.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The relay and the feed are driven by hand so each test controls when changes reach the index.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tasksearchtest",
+        // The JCache manager is JVM-wide, so a private database must not share second-level cache regions.
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "app.outbox.poll-interval-ms=3600000",
+        "app.search.feed.poll-interval-ms=3600000"
+})
+class TaskSearchTest {
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskSearchFeed taskSearchFeed;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Project project;
+    private Project otherProject;
+
+    @BeforeEach
+    void setUp() {
+        User manager = userRepository.save(new User("manager-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+        project = saveProject("Search Project", manager);
+        otherProject = saveProject("Other Search Project", manager);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+        relay();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Search - Rebuild Indexes Existing Tasks, Title Matches Rank First")
+    void search_AfterRebuild_ShouldRankTitleMatchesAboveDescriptionMatches() {
+        Task inDescription = saveTask(project, "Write release notes", "Mention the quasarflux migration");
+        Task inTitle = saveTask(project, "Quasarflux migration", "Move the remaining tables");
+        taskSearchService.rebuildIndex();
+
+        TaskSearchResultDto result = taskSearchService.search("quasarflux migration", null, 10);
+
+        assertEquals(2, result.getTotalHits());
+        assertEquals(List.of(inTitle.getId(), inDescription.getId()), taskIds(result));
+        assertEquals("Quasarflux migration", result.getHits().get(0).getTask().getTitle());
+    }
+
+    @Test
+    @DisplayName("Search - Scoped To One Project")
+    void search_WithProjectId_ShouldOnlyReturnThatProjectsTasks() {
+        Task inProject = saveTask(project, "Nebulawick cleanup", null);
+        saveTask(otherProject, "Nebulawick cleanup elsewhere", null);
+        taskSearchService.rebuildIndex();
+
+        assertEquals(2, taskSearchService.search("nebulawick", null, 10).getTotalHits());
+        assertEquals(List.of(inProject.getId()), taskIds(taskSearchService.search("nebulawick", project.getId(), 10)));
+    }
+
+    @Test
+    @DisplayName("Search - Updates And Deletes Reach The Index Through The Outbox")
+    void search_AfterRelayedChanges_ShouldReflectThem() {
+        Task task = saveTask(project, "Original heading", null);
+        taskSearchService.rebuildIndex();
+
+        UpdateTaskRequestDto rename = new UpdateTaskRequestDto();
+        rename.setTitle("Glimmerbrook heading");
+        taskService.updateTask(task.getId(), rename, null);
+        assertEquals(0, taskSearchService.search("glimmerbrook", null, 10).getTotalHits());
+
+        outboxRelay.drain();
+        assertEquals(0, taskSearchService.search("glimmerbrook", null, 10).getTotalHits());
+        taskSearchFeed.poll();
+        assertEquals(List.of(task.getId()), taskIds(taskSearchService.search("glimmerbrook", null, 10)));
+        assertEquals(0, taskSearchService.search("original", project.getId(), 10).getTotalHits());
+
+        taskService.deleteTask(task.getId());
+        relay();
+        assertEquals(0, taskSearchService.search("glimmerbrook", null, 10).getTotalHits());
+    }
+
+    @Test
+    @DisplayName("Search - Stale Upsert Does Not Overwrite A Newer Document")
+    void apply_WithOlderVersion_ShouldKeepNewerDocument() {
+        long taskId = saveTask(project, "Placeholder", null).getId();
+        taskSearchIndex.apply(List.of(
+                TaskIndexChange.upsert(new TaskSearchSource(taskId, project.getId(), "Thornvale newer", null, 5L)),
+                TaskIndexChange.upsert(new TaskSearchSource(taskId, project.getId(), "Thornvale older", null, 4L))));
+        taskSearchIndex.apply(List.of(
+                TaskIndexChange.upsert(new TaskSearchSource(taskId, project.getId(), "Thornvale oldest", null, 3L))));
+
+        assertEquals(1, taskSearchService.search("thornvale newer", null, 10).getTotalHits());
+        assertEquals(0, taskSearchService.search("older", project.getId(), 10).getTotalHits());
+        assertEquals(0, taskSearchService.search("oldest", project.getId(), 10).getTotalHits());
+    }
+
+    @Test
+    @DisplayName("Search - Changes Relayed By Another Instance Reach The Index")
+    void poll_WithRowsRelayedElsewhere_ShouldIndexThem() {
+        long taskId = saveTask(project, "Placeholder", null).getId();
+        taskSearchService.rebuildIndex();
+
+        insertChange(taskId, 7L, "Kestrelmoor heading");
+        assertEquals(0, taskSearchService.search("kestrelmoor", null, 10).getTotalHits());
+
+        taskSearchFeed.poll();
+        assertEquals(List.of(taskId), taskIds(taskSearchService.search("kestrelmoor", null, 10)));
+    }
+
+    @Test
+    @DisplayName("Search - Delete Read Before An Older Upsert Keeps The Task Out")
+    void poll_WithUpsertAfterNewerDelete_ShouldStayDeleted() {
+        long taskId = saveTask(project, "Placeholder", null).getId();
+        taskSearchService.rebuildIndex();
+
+        insertChange(taskId, 9L, null);
+        insertChange(taskId, 8L, "Wrenfield heading");
+        taskSearchFeed.poll();
+
+        assertEquals(0, taskSearchService.search("wrenfield", null, 10).getTotalHits());
+    }
+
+    @Test
+    @DisplayName("Search - Blank Query Rejected")
+    void search_WithBlankQuery_ShouldThrow() {
+        assertThrows(InvalidSearchQueryException.class, () -> taskSearchService.search(" ", null, 10));
+        assertThrows(InvalidSearchQueryException.class, () -> taskSearchService.search("anything", null, 0));
+    }
+
+    private void relay() {
+        outboxRelay.drain();
+        taskSearchFeed.poll();
+    }
+
+    // A null title records a delete, as TaskSearchOutboxSink writes it.
+    private void insertChange(long taskId, long version, String title) {
+        jdbcTemplate.update("insert into task_search_changes (task_id, version, project_id, title, create_date) values (?, ?, ?, ?, ?)",
+                taskId, version, title == null ? null : project.getId(), title, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private Project saveProject(String name, User owner) {
+        Project newProject = new Project();
+        newProject.setName(name);
+        newProject.setOwner(owner);
+        return projectRepository.save(newProject);
+    }
+
+    private Task saveTask(Project taskProject, String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(taskProject);
+        return taskRepository.save(task);
+    }
+
+    private static List<Long> taskIds(TaskSearchResultDto result) {
+        return result.getHits().stream().map(hit -> hit.getTask().getId()).toList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.model.Role;
+import com.example.tasktracker.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationCacheTest {
+
+    private AuthenticationCache authenticationCache;
+    private AtomicInteger verifications;
+    private AtomicInteger lookups;
+
+    @BeforeEach
+    void setUp() {
+        authenticationCache = new AuthenticationCache(100, 60_000, 100, 60_000);
+        verifications = new AtomicInteger();
+        lookups = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Verified Claims - Token Verified Only Once")
+    void getVerifiedClaims_WhenCalledTwice_ShouldVerifyOnce() {
+        JwtClaims claims = claimsFor("user@example.com", 60_000);
+
+        authenticationCache.getVerifiedClaims("token", token -> verify(claims));
+        JwtClaims cached = authenticationCache.getVerifiedClaims("token", token -> verify(claims));
+
+        assertSame(claims, cached);
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Verified Claims - Expired Entry Is Verified Again")
+    void getVerifiedClaims_WhenTokenExpired_ShouldVerifyAgain() {
+        JwtClaims expired = claimsFor("user@example.com", -1_000);
+
+        authenticationCache.getVerifiedClaims("token", token -> verify(expired));
+        authenticationCache.getVerifiedClaims("token", token -> verify(expired));
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Evict User - Drops Principal and Tokens")
+    void evictUser_ShouldDropCachedPrincipalAndTokens() {
+        JwtClaims claims = claimsFor("user@example.com", 60_000);
+        authenticationCache.getVerifiedClaims("token", token -> verify(claims));
+        authenticationCache.getPrincipal("user@example.com", this::load);
+
+        authenticationCache.evictUser(1L, "user@example.com");
+        authenticationCache.getVerifiedClaims("token", token -> verify(claims));
+        authenticationCache.getPrincipal("user@example.com", this::load);
+
+        assertEquals(2, verifications.get());
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    @DisplayName("Evict User - Drops Entries Cached Under a Previous Email")
+    void evictUser_AfterEmailChange_ShouldDropEntriesForOldEmail() {
+        JwtClaims claims = claimsFor("old@example.com", 60_000);
+        authenticationCache.getVerifiedClaims("token", token -> verify(claims));
+        authenticationCache.getPrincipal("old@example.com", email -> loadWithId(email, 1L));
+
+        authenticationCache.evictUser(1L, "new@example.com");
+        authenticationCache.getVerifiedClaims("token", token -> verify(claims));
+        authenticationCache.getPrincipal("old@example.com", email -> loadWithId(email, 1L));
+
+        assertEquals(2, verifications.get());
+        assertEquals(2, lookups.get());
+    }
+
+    private JwtClaims verify(JwtClaims claims) {
+        verifications.incrementAndGet();
+        return claims;
+    }
+
+    private UserDetails load(String email) {
+        lookups.incrementAndGet();
+        return new User(email, "password", Role.USER);
+    }
+
+    private UserDetails loadWithId(String email, Long id) {
+        User user = (User) load(email);
+        user.setId(id);
+        return user;
+    }
+
+    private static JwtClaims claimsFor(String subject, long expiresInMs) {
+        return new JwtClaims(subject, 1L, List.of("ROLE_USER"), 0, new Date(System.currentTimeMillis() + expiresInMs), null);
+    }
+}
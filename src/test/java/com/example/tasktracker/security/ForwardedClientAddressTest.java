@@ -0,0 +1,46 @@
+package com.example.tasktracker.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Requests come from localhost, which the native strategy trusts as a proxy.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.security.login.max-failures-per-address=2",
+        "app.security.login.max-failures-per-account=100"
+})
+class ForwardedClientAddressTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("Login Throttle - Keyed On The Forwarded Client Address")
+    void login_BehindProxy_ShouldThrottleEachForwardedAddress() throws Exception {
+        assertEquals(401, failedLogin("203.0.113.10").statusCode());
+        assertEquals(401, failedLogin("203.0.113.10").statusCode());
+
+        assertEquals(429, failedLogin("203.0.113.10").statusCode());
+        assertEquals(401, failedLogin("203.0.113.11").statusCode());
+    }
+
+    private HttpResponse<String> failedLogin(String clientAddress) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientAddress)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"nobody@example.com\",\"password\":\"wrong-password\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.model.Role;
+import com.example.tasktracker.model.User;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String PRIMARY_SECRET = "bXktc2VjcmV0LWtleS1mb3ItanNvbi13ZWItdG9rZW4tcHJvamVjdA==";
+    private static final String ROTATED_SECRET = "YW5vdGhlci1zZWNyZXQta2V5LWZvci1qc29uLXdlYi10b2tlbnMtMjAyNg==";
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(PRIMARY_SECRET, "primary", 60_000);
+        user = new User("user@example.com", "password", Role.USER);
+        user.setId(7L);
+    }
+
+    @Test
+    @DisplayName("Parse Token - Returns Username, Id, Roles, Version and Expiration")
+    void parseToken_WhenTokenIsValid_ShouldReturnAllClaims() {
+        JwtClaims claims = jwtService.parseToken(jwtService.generateToken(user));
+
+        assertEquals("user@example.com", claims.username());
+        assertEquals(7L, claims.userId());
+        assertEquals(0, claims.tokenVersion());
+        assertEquals(List.of("ROLE_USER"), claims.roles());
+        assertFalse(claims.isExpired());
+        assertTrue(jwtService.isTokenValid(claims, user));
+    }
+
+    @Test
+    @DisplayName("Verification Keys - Tokens Signed With A Previous Key Stay Valid")
+    void parseToken_WhenSignedWithVerificationKey_ShouldAccept() {
+        String oldToken = jwtService.generateToken(user);
+
+        JwtService rotated = new JwtService(ROTATED_SECRET, "rotated", 60_000, "primary:" + PRIMARY_SECRET);
+        String newToken = rotated.generateToken(user);
+
+        assertEquals("user@example.com", rotated.extractUsername(oldToken));
+        assertEquals("user@example.com", rotated.extractUsername(newToken));
+        assertThrows(JwtException.class, () -> jwtService.parseToken(newToken));
+    }
+
+    @Test
+    @DisplayName("Verification Keys - Tokens Signed With A Dropped Key Are Rejected")
+    void parseToken_WhenKeyNoLongerConfigured_ShouldReject() {
+        String oldToken = jwtService.generateToken(user);
+
+        JwtService rotated = new JwtService(ROTATED_SECRET, "rotated", 60_000);
+
+        assertThrows(JwtException.class, () -> rotated.parseToken(oldToken));
+        assertThrows(IllegalArgumentException.class, () -> new JwtService(ROTATED_SECRET, "rotated", 60_000, PRIMARY_SECRET));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptLimiterTest {
+
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginAttemptLimiter(3, 5, 60_000, 1_000);
+    }
+
+    @Test
+    @DisplayName("Account - Throttled After Max Failures")
+    void reserveAttempt_WhenAccountReachesLimit_ShouldThrow() {
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> limiter.reserveAttempt("user@example.com", "10.0.0.1"));
+        }
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> limiter.reserveAttempt("user@example.com", "10.0.0.2"));
+        assertTrue(exception.getRetryAfterSeconds() > 0);
+        assertDoesNotThrow(() -> limiter.reserveAttempt("other@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Address - Throttled Across Accounts")
+    void reserveAttempt_WhenAddressReachesLimit_ShouldThrowForAnyAccount() {
+        for (int i = 0; i < 5; i++) {
+            limiter.reserveAttempt("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.reserveAttempt("new@example.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.reserveAttempt("new@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("Success - Resets Account Counter")
+    void recordSuccess_ShouldResetAccountFailures() {
+        limiter.reserveAttempt("user@example.com", "10.0.0.1");
+        limiter.reserveAttempt("user@example.com", "10.0.0.1");
+        limiter.recordSuccess("user@example.com", "10.0.0.1");
+        limiter.reserveAttempt("user@example.com", "10.0.0.1");
+        limiter.reserveAttempt("user@example.com", "10.0.0.1");
+
+        assertDoesNotThrow(() -> limiter.reserveAttempt("user@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("Release - Gives An Unchecked Attempt Back")
+    void releaseAttempt_ShouldUncountReservation() {
+        for (int i = 0; i < 3; i++) {
+            limiter.reserveAttempt("user@example.com", "10.0.0.1");
+        }
+        limiter.releaseAttempt("user@example.com", "10.0.0.1");
+
+        assertDoesNotThrow(() -> limiter.reserveAttempt("user@example.com", "10.0.0.1"));
+        assertThrows(TooManyRequestsException.class, () -> limiter.reserveAttempt("user@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Burst - Concurrent Attempts Never Exceed The Account Limit")
+    void reserveAttempt_WithConcurrentBurst_ShouldAdmitOnlyTheLimit() throws Exception {
+        int attempts = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                String address = "10.0.1." + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        limiter.reserveAttempt("user@example.com", address);
+                        return true;
+                    } catch (TooManyRequestsException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int admitted = 0;
+            for (Future<Boolean> result : results) {
+                admitted += result.get() ? 1 : 0;
+            }
+            assertEquals(3, admitted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginExecutorTest {
+
+    @Test
+    @DisplayName("Saturated - Rejects With 429 When Queue Is Full")
+    void execute_WhenSaturated_ShouldRejectImmediately() throws Exception {
+        LoginExecutor executor = new LoginExecutor(new SimpleMeterRegistry(), 1, 1, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+                started.countDown();
+                await(release);
+                return "first";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "second"));
+            // Wait until the second task occupies the single queue slot.
+            while (!queued.isDone() && executor.queuedTasks() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(TooManyRequestsException.class, () -> executor.execute(() -> "third"));
+
+            release.countDown();
+            assertEquals("first", running.get(5, TimeUnit.SECONDS));
+            assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Timeout - Cancels The Login And Rejects With 429")
+    void execute_WhenLoginTakesTooLong_ShouldCancelAndReject() throws Exception {
+        LoginExecutor executor = new LoginExecutor(new SimpleMeterRegistry(), 1, 1, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            assertThrows(TooManyRequestsException.class, () -> executor.execute(() -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return "slow";
+            }));
+
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            assertEquals("next", executor.execute(() -> "next"));
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
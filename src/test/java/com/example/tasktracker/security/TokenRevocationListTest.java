@@ -0,0 +1,97 @@
+package com.example.tasktracker.security;
+
+import com.example.tasktracker.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    @Test
+    @DisplayName("Bloom Filter - No False Negatives and a Bounded False Positive Rate")
+    void bloomFilter_ShouldContainInsertedIdsAndRarelyOthers() {
+        TokenRevocationList.BloomFilter filter = new TokenRevocationList.BloomFilter(10_000, 0.01);
+        List<String> inserted = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String tokenId = UUID.randomUUID().toString();
+            inserted.add(tokenId);
+            filter.put(tokenId);
+        }
+
+        inserted.forEach(tokenId -> assertTrue(filter.mightContain(tokenId)));
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Bloom Filter - Concurrent Puts Keep Every Id")
+    void bloomFilter_WithConcurrentPuts_ShouldNotLoseBits() throws Exception {
+        TokenRevocationList.BloomFilter filter = new TokenRevocationList.BloomFilter(1024, 0.01);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    List<String> inserted = new ArrayList<>();
+                    for (int i = 0; i < 2_000; i++) {
+                        String tokenId = UUID.randomUUID().toString();
+                        filter.put(tokenId);
+                        inserted.add(tokenId);
+                    }
+                    return inserted;
+                }));
+            }
+            for (Future<List<String>> result : results) {
+                result.get(10, TimeUnit.SECONDS).forEach(tokenId -> assertTrue(filter.mightContain(tokenId)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Is Revoked - Answered From the Rebuilt Snapshot Without Querying")
+    void isRevoked_AfterRebuild_ShouldNotQueryRepository() {
+        RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(repository.findActiveTokenIds(any())).thenReturn(List.of("revoked-1"));
+        TokenRevocationList revocationList = new TokenRevocationList(repository, transactionTemplate, 0.01);
+
+        revocationList.rebuild();
+        revocationList.revoke("revoked-2", LocalDateTime.now().plusMinutes(5));
+
+        assertTrue(revocationList.isRevoked("revoked-1"));
+        assertTrue(revocationList.isRevoked("revoked-2"));
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(revocationList.isRevoked(UUID.randomUUID().toString()));
+        }
+        verify(repository, never()).existsById(anyString());
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.exception.EntityNotFoundException;
+import com.example.tasktracker.exception.IdempotencyConflictException;
+import com.example.tasktracker.model.Role;
+import com.example.tasktracker.model.User;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.security.JwtService;
+import com.example.tasktracker.service.IdempotencyService;
+import com.example.tasktracker.service.IdempotentResult;
+import com.example.tasktracker.util.IdempotentResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class IdempotencyServiceImplTest {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private IdempotencyService idempotencyService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private User manager;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        manager = userRepository.save(new User("idempotency-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+        token = jwtService.generateToken(manager);
+    }
+
+    @Test
+    @DisplayName("Create Project - Repeated Key Replays the First Response")
+    void createProject_WithRepeatedKey_ShouldCreateOnce() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(Map.of("name", "Idempotent project"));
+
+        HttpResponse<String> first = post("/api/projects", key, body);
+        HttpResponse<String> second = post("/api/projects", key, body);
+
+        assertEquals(201, first.statusCode());
+        assertEquals(201, second.statusCode());
+        assertTrue(first.headers().firstValue(IdempotentResponses.REPLAYED_HEADER).isEmpty());
+        assertEquals("true", second.headers().firstValue(IdempotentResponses.REPLAYED_HEADER).orElse(null));
+        assertEquals(objectMapper.readTree(first.body()), objectMapper.readTree(second.body()));
+        assertEquals(1, projectRepository.findAll().stream()
+                .filter(project -> project.getOwner().getId().equals(manager.getId()))
+                .count());
+    }
+
+    @Test
+    @DisplayName("Create Project - Same Key With a Different Body Is Rejected")
+    void createProject_WithReusedKeyAndDifferentBody_ShouldReturn422() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        assertEquals(201, post("/api/projects", key, objectMapper.writeValueAsString(Map.of("name", "First"))).statusCode());
+        assertEquals(422, post("/api/projects", key, objectMapper.writeValueAsString(Map.of("name", "Second"))).statusCode());
+    }
+
+    @Test
+    @DisplayName("Create Tasks in Bulk - Repeated Key Replays the Result List")
+    void createTasks_WithRepeatedKey_ShouldReplayList() throws Exception {
+        long projectId = objectMapper.readTree(post("/api/projects", UUID.randomUUID().toString(),
+                objectMapper.writeValueAsString(Map.of("name", "Batch project"))).body()).get("id").asLong();
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(Map.of("tasks", List.of(
+                Map.of("title", "First", "status", "TODO", "priority", "LOW", "projectId", projectId),
+                Map.of("title", "Second", "status", "TODO", "priority", "LOW", "projectId", projectId))));
+
+        HttpResponse<String> first = post("/api/tasks/batch", key, body);
+        HttpResponse<String> second = post("/api/tasks/batch", key, body);
+
+        assertEquals(200, first.statusCode());
+        assertEquals(200, second.statusCode());
+        assertEquals("true", second.headers().firstValue(IdempotentResponses.REPLAYED_HEADER).orElse(null));
+        assertEquals(objectMapper.readTree(first.body()), objectMapper.readTree(second.body()));
+        assertEquals(2, objectMapper.readTree(second.body()).size());
+    }
+
+    @Test
+    @DisplayName("Execute - Concurrent Requests With the Same Key Run Once")
+    void execute_WithConcurrentSameKey_ShouldRunActionOnce() throws Exception {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<IdempotentResult<String>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> idempotencyService.execute(key, "test", "request", 200, String.class, () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return "done";
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<IdempotentResult<String>> result : results) {
+                assertEquals("done", result.get(10, TimeUnit.SECONDS).body());
+            }
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Execute - A Failed Action Releases the Key")
+    void execute_WhenActionFails_ShouldAllowRetry() {
+        String key = UUID.randomUUID().toString();
+
+        assertThrows(EntityNotFoundException.class, () -> idempotencyService.execute(key, "test", "request",
+                200, String.class, () -> {
+                    throw new EntityNotFoundException("missing");
+                }));
+
+        IdempotentResult<String> retried = idempotencyService.execute(key, "test", "request",
+                200, String.class, () -> "created");
+        assertEquals("created", retried.body());
+        assertFalse(retried.replayed());
+    }
+
+    @Test
+    @DisplayName("Execute - An Action Whose Claim Was Taken Over Rolls Back")
+    void execute_WhenClaimTakenOverMidAction_ShouldRollBackAction() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String request = "takeover-" + UUID.randomUUID();
+        String requestHash = sha256(request);
+        String email = "takeover-" + UUID.randomUUID() + "@example.com";
+
+        assertThrows(IdempotencyConflictException.class, () -> idempotencyService.execute(key, "test", request,
+                200, String.class, () -> {
+                    userRepository.save(new User(email, "password", Role.USER));
+                    // Another instance takes the claim over on its own connection.
+                    CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                            "update idempotency_keys set create_date = ? where request_hash = ?",
+                            Timestamp.valueOf(LocalDateTime.now().plusSeconds(1)), requestHash)).join();
+                    return "done";
+                }));
+
+        assertTrue(userRepository.findByEmail(email).isEmpty());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from idempotency_keys where request_hash = ? and status_code is null", Integer.class, requestHash));
+    }
+
+    private String sha256(Object request) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash);
+    }
+
+    private HttpResponse<String> post(String path, String key, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .header(IdempotentResponses.HEADER, key)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
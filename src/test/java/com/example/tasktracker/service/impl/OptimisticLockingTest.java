@@ -0,0 +1,114 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.dto.task.UpdateTaskRequestDto;
+import com.example.tasktracker.exception.PreconditionFailedException;
+import com.example.tasktracker.model.*;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.service.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.RollbackException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class OptimisticLockingTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User manager;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        manager = userRepository.save(new User("manager-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+
+        Project project = new Project();
+        project.setName("Optimistic Locking Project");
+        project.setOwner(manager);
+        project = projectRepository.save(project);
+
+        task = new Task();
+        task.setTitle("Original Title");
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(project);
+        task = taskRepository.save(task);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Update Task - Version Increments And Is Returned")
+    void updateTask_ShouldReturnIncrementedVersion() {
+        TaskResponseDto updated = taskService.updateTask(task.getId(), rename("First Edit"), task.getVersion());
+
+        assertEquals(task.getVersion() + 1, updated.getVersion());
+        assertEquals(updated.getVersion(), taskService.getTaskVersion(task.getId()).version());
+    }
+
+    @Test
+    @DisplayName("Update Task - Stale If-Match Version Rejected")
+    void updateTask_WhenExpectedVersionIsStale_ShouldThrowPreconditionFailed() {
+        taskService.updateTask(task.getId(), rename("First Edit"), null);
+
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.updateTask(task.getId(), rename("Second Edit"), task.getVersion()));
+        assertEquals("First Edit", taskService.getTaskById(task.getId()).getTitle());
+    }
+
+    @Test
+    @DisplayName("Concurrent Writers - Second Commit Fails Instead Of Overwriting")
+    void concurrentWrite_WhenRowChangedAfterRead_ShouldFailOnCommit() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Task staleCopy = entityManager.find(Task.class, task.getId());
+
+            taskService.updateTask(task.getId(), rename("Committed Edit"), null);
+
+            staleCopy.setTitle("Lost Edit");
+            RollbackException exception = assertThrows(RollbackException.class,
+                    () -> entityManager.getTransaction().commit());
+            assertInstanceOf(OptimisticLockException.class, exception.getCause());
+        } finally {
+            entityManager.close();
+        }
+        assertEquals("Committed Edit", taskService.getTaskById(task.getId()).getTitle());
+    }
+
+    private static UpdateTaskRequestDto rename(String title) {
+        UpdateTaskRequestDto requestDto = new UpdateTaskRequestDto();
+        requestDto.setTitle(title);
+        return requestDto;
+    }
+}
@@ -2,12 +2,16 @@ package com.example.tasktracker.service.impl;
 
 import com.example.tasktracker.dto.project.CreateProjectRequestDto;
 import com.example.tasktracker.dto.project.ProjectResponseDto;
+import com.example.tasktracker.event.ProjectChangedEvent;
 import com.example.tasktracker.exception.EntityNotFoundException;
+import com.example.tasktracker.exception.PreconditionFailedException;
 import com.example.tasktracker.mapper.ProjectMapper;
 import com.example.tasktracker.model.Project;
 import com.example.tasktracker.model.Role;
 import com.example.tasktracker.model.User;
 import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,11 +19,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +41,15 @@ class ProjectServiceImplTest {
     @Mock 
     private ProjectMapper projectMapper;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -64,6 +82,7 @@ class ProjectServiceImplTest {
     @DisplayName("Create Project - Success")
     void createProject_WhenDataIsValid_ShouldReturnProjectResponseDto() {
         when(projectMapper.toModel(any(CreateProjectRequestDto.class))).thenReturn(project);
+        when(userRepository.getReferenceById(manager.getId())).thenReturn(manager);
         
         Project savedProject = new Project();
         savedProject.setId(10L);
@@ -125,19 +144,31 @@ class ProjectServiceImplTest {
         updateRequest.setDescription("Updated Description.");
 
         when(projectRepository.findById(existingId)).thenReturn(Optional.of(project));
-        when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(projectRepository.saveAndFlush(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         ProjectResponseDto updatedDto = new ProjectResponseDto();
         updatedDto.setId(existingId);
         updatedDto.setName("Updated Name");
         when(projectMapper.toDto(any(Project.class))).thenReturn(updatedDto);
 
-        ProjectResponseDto result = projectService.updateProject(existingId, updateRequest);
+        ProjectResponseDto result = projectService.updateProject(existingId, updateRequest, null);
 
         assertNotNull(result);
         assertEquals("Updated Name", result.getName()); 
         verify(projectRepository).findById(existingId);
-        verify(projectRepository).save(any(Project.class)); 
+        verify(projectRepository).saveAndFlush(any(Project.class)); 
+    }
+
+    @Test
+    @DisplayName("Update Project - Failure (Stale If-Match Version)")
+    void updateProject_WhenVersionIsStale_ShouldThrowPreconditionFailed() {
+        project.setId(10L);
+        project.setVersion(3L);
+        when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> projectService.updateProject(10L, createProjectRequestDto, 2L));
+        verify(projectRepository, never()).saveAndFlush(any(Project.class));
     }
 
     @Test
@@ -150,5 +181,24 @@ class ProjectServiceImplTest {
         assertDoesNotThrow(() -> projectService.deleteProject(existingId));
 
         verify(projectRepository).delete(project);
+        verify(eventPublisher).publishEvent(ProjectChangedEvent.deleted(existingId, null));
+    }
+
+    @Test
+    @DisplayName("Stream All Projects - Each Row Written Then Detached")
+    void streamAllProjects_ShouldPassEachDtoToConsumerAndDetachEntity() {
+        Project secondProject = new Project();
+        secondProject.setOwner(manager);
+        ProjectResponseDto secondDto = new ProjectResponseDto();
+        when(projectRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(project, secondProject));
+        when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
+        when(projectMapper.toDto(secondProject)).thenReturn(secondDto);
+
+        List<ProjectResponseDto> written = new ArrayList<>();
+        projectService.streamAllProjects(written::add);
+
+        assertEquals(List.of(projectResponseDto, secondDto), written);
+        verify(entityManager).detach(project);
+        verify(entityManager).detach(secondProject);
     }
-}
\ No newline at end of file
+}
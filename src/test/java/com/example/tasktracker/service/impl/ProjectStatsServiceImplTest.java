@@ -0,0 +1,110 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.project.ProjectStatsDto;
+import com.example.tasktracker.exception.EntityNotFoundException;
+import com.example.tasktracker.model.Project;
+import com.example.tasktracker.model.TaskPriority;
+import com.example.tasktracker.model.TaskStatus;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.stats.TaskStatsDeltas;
+import com.example.tasktracker.stats.TaskStatsWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectStatsServiceImplTest {
+
+    private static final Long PROJECT_ID = 10L;
+    private static final LocalDate YESTERDAY = LocalDate.now().minusDays(1);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TaskStatsWriter taskStatsWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ProjectStatsServiceImpl projectStatsService;
+
+    @Test
+    @DisplayName("Get Project Stats - Failure (Project Not Found)")
+    void getProjectStats_WhenProjectNotFound_ShouldThrowException() {
+        when(projectRepository.existsById(PROJECT_ID)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> projectStatsService.getProjectStats(PROJECT_ID));
+    }
+
+    @Test
+    @DisplayName("Get Project Stats (Bulk) - Skips Unknown Projects")
+    void getProjectStats_ForSeveralProjects_ShouldSkipUnknownIds() {
+        Project project = new Project();
+        project.setId(PROJECT_ID);
+        when(projectRepository.findAllById(List.of(PROJECT_ID, 99L))).thenReturn(List.of(project));
+
+        List<ProjectStatsDto> stats = projectStatsService.getProjectStats(List.of(PROJECT_ID, 99L, PROJECT_ID));
+
+        assertEquals(1, stats.size());
+        assertEquals(PROJECT_ID, stats.get(0).getProjectId());
+        assertEquals(0, stats.get(0).getTotal());
+    }
+
+    @Test
+    @DisplayName("Project Task Counts - Difference Turns Counted Into Expected")
+    void addDifference_ShouldAddWhatTheCountersMiss() {
+        ProjectTaskCounts expected = new ProjectTaskCounts();
+        expected.addTasks(TaskStatus.TODO, TaskPriority.HIGH, YESTERDAY, 3);
+        expected.addTasks(TaskStatus.DONE, TaskPriority.LOW, YESTERDAY, 1);
+        ProjectTaskCounts counted = new ProjectTaskCounts();
+        counted.addTasks(TaskStatus.TODO, TaskPriority.HIGH, YESTERDAY, 2);
+        counted.addTasks(TaskStatus.IN_PROGRESS, TaskPriority.LOW, null, 1);
+        TaskStatsDeltas deltas = mock(TaskStatsDeltas.class);
+
+        assertTrue(expected.addDifference(PROJECT_ID, counted, deltas));
+        assertFalse(expected.addDifference(PROJECT_ID, expected, deltas));
+
+        verify(deltas).add(PROJECT_ID, TaskStatus.TODO, TaskPriority.HIGH, 1);
+        verify(deltas).add(PROJECT_ID, TaskStatus.DONE, TaskPriority.LOW, 1);
+        verify(deltas).add(PROJECT_ID, TaskStatus.IN_PROGRESS, TaskPriority.LOW, -1);
+        verify(deltas).addDue(PROJECT_ID, YESTERDAY, 1);
+    }
+
+    @Test
+    @DisplayName("Project Task Counts - Totals By Status And Priority")
+    void toDto_ShouldSumGroups() {
+        ProjectTaskCounts counts = new ProjectTaskCounts();
+        counts.add(TaskStatus.TODO, TaskPriority.HIGH, 2);
+        counts.add(TaskStatus.DONE, TaskPriority.HIGH, 3);
+
+        ProjectStatsDto stats = counts.toDto(PROJECT_ID, 2);
+
+        assertEquals(5, stats.getTotal());
+        assertEquals(5, stats.getByPriority().get(TaskPriority.HIGH));
+        assertEquals(0, stats.getByPriority().get(TaskPriority.LOW));
+        assertEquals(0, stats.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(2, stats.getOverdue());
+    }
+}
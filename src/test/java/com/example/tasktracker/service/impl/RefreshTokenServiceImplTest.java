@@ -0,0 +1,148 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.user.UserLoginResponseDto;
+import com.example.tasktracker.model.Role;
+import com.example.tasktracker.model.User;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.security.JwtService;
+import com.example.tasktracker.security.TokenRevocationList;
+import com.example.tasktracker.service.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RefreshTokenServiceImplTest {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.jwt.secret}")
+    private String jwtSecret;
+    @Value("${app.jwt.key-id}")
+    private String jwtKeyId;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("refresh-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+    }
+
+    @Test
+    @DisplayName("Refresh - Rotates Both Tokens")
+    void refresh_WithCurrentToken_ShouldIssueNewPair() throws Exception {
+        UserLoginResponseDto login = refreshTokenService.issueTokens(user);
+
+        UserLoginResponseDto refreshed = refreshTokenService.refresh(login.getRefreshToken());
+
+        assertNotEquals(login.getToken(), refreshed.getToken());
+        assertNotEquals(login.getRefreshToken(), refreshed.getRefreshToken());
+        assertEquals(user.getEmail(), jwtService.extractUsername(refreshed.getToken()));
+        assertEquals(200, get("/api/projects", refreshed.getToken()).statusCode());
+    }
+
+    @Test
+    @DisplayName("Refresh - Reusing a Rotated Token Revokes the Whole Family")
+    void refresh_WithRotatedToken_ShouldRevokeFamily() throws Exception {
+        UserLoginResponseDto login = refreshTokenService.issueTokens(user);
+        UserLoginResponseDto refreshed = refreshTokenService.refresh(login.getRefreshToken());
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(login.getRefreshToken()));
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(refreshed.getRefreshToken()));
+        assertTrue(tokenRevocationList.isRevoked(jwtService.parseToken(refreshed.getToken()).tokenId()));
+        assertTrue(tokenRevocationList.isRevoked(jwtService.parseToken(login.getToken()).tokenId()));
+        assertEquals(403, get("/api/projects", refreshed.getToken()).statusCode());
+    }
+
+    @Test
+    @DisplayName("Revoke All - Access and Refresh Tokens Stop Working")
+    void revokeAll_ShouldRevokeIssuedTokens() throws Exception {
+        UserLoginResponseDto login = refreshTokenService.issueTokens(user);
+        assertEquals(200, get("/api/projects", login.getToken()).statusCode());
+
+        refreshTokenService.revokeAll(user.getId());
+
+        assertEquals(403, get("/api/projects", login.getToken()).statusCode());
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(login.getRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("Rebuild - Revocations Survive a Filter Rebuild")
+    void rebuild_ShouldReloadRevokedTokenIds() {
+        UserLoginResponseDto login = refreshTokenService.issueTokens(user);
+        String tokenId = jwtService.parseToken(login.getToken()).tokenId();
+        refreshTokenService.revokeAll(user.getId());
+
+        tokenRevocationList.rebuild();
+
+        assertTrue(tokenRevocationList.isRevoked(tokenId));
+        assertFalse(tokenRevocationList.isRevoked(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    @DisplayName("Refresh - Unknown Token Is Rejected")
+    void refresh_WithUnknownToken_ShouldThrow() {
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh("not-a-refresh-token"));
+    }
+
+    @Test
+    @DisplayName("Expired Access Token - Answered With 401")
+    void get_WithExpiredAccessToken_ShouldReturn401() throws Exception {
+        JwtService expiredIssuer = new JwtService(jwtSecret, jwtKeyId, -60_000);
+
+        HttpResponse<String> response = get("/api/projects", expiredIssuer.generateToken(user));
+
+        assertEquals(401, response.statusCode());
+        assertTrue(response.headers().firstValue("WWW-Authenticate").orElse("").startsWith("Bearer"));
+    }
+
+    @Test
+    @DisplayName("Expired Access Token - Ignored On Refresh")
+    void refresh_WithExpiredAccessTokenHeader_ShouldStillIssueTokens() throws Exception {
+        JwtService expiredIssuer = new JwtService(jwtSecret, jwtKeyId, -60_000);
+        UserLoginResponseDto login = refreshTokenService.issueTokens(user);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/refresh"))
+                .header("Authorization", "Bearer " + expiredIssuer.generateToken(user))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"refreshToken\":\"" + login.getRefreshToken() + "\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("refreshToken"));
+    }
+
+    private HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.task.UpdateTaskRequestDto;
+import com.example.tasktracker.event.outbox.OutboxRelay;
+import com.example.tasktracker.model.*;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.security.JwtService;
+import com.example.tasktracker.service.ProjectService;
+import com.example.tasktracker.service.TaskService;
+import com.example.tasktracker.stream.TaskEventFeed;
+import com.example.tasktracker.stream.TaskEventLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The relay and the feed are driven by hand, so a test decides when a change reaches the streams.
+// A private database keeps the relays of other test contexts from claiming its outbox rows.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskeventstreamtest",
+        // The JCache manager is JVM-wide, so a private database must not share second-level cache regions.
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "app.outbox.poll-interval-ms=3600000",
+        "app.events.feed.poll-interval-ms=3600000"
+})
+class TaskEventStreamServiceImplTest {
+
+    private static final String STREAM_END = "<end of stream>";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskEventStreamServiceImpl taskEventStreamService;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private TaskEventFeed taskEventFeed;
+    @Autowired
+    private TaskEventLog taskEventLog;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<Stream<String>> openStreams = new ArrayList<>();
+    private String token;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        User manager = userRepository.save(new User("manager-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+        token = jwtService.generateToken(manager);
+
+        project = new Project();
+        project.setName("Event Stream Project");
+        project.setOwner(manager);
+        project = projectRepository.save(project);
+
+        task = new Task();
+        task.setTitle("Streamed Task");
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(project);
+        task = taskRepository.save(task);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+        relay();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        openStreams.forEach(Stream::close);
+    }
+
+    @Test
+    @DisplayName("Subscribe - Receives Committed Task Updates")
+    void subscribe_ShouldReceiveUpdatesAfterCommit() throws Exception {
+        BlockingQueue<String> lines = subscribe(null);
+
+        rename("First Edit");
+        relay();
+
+        assertEquals("event:updated", nextMatching(lines, "event:"));
+        assertTrue(nextMatching(lines, "data:").contains("\"title\":\"First Edit\""));
+    }
+
+    @Test
+    @DisplayName("Subscribe With Last-Event-ID - Replays Only Newer Events")
+    void subscribe_WithLastEventId_ShouldReplayMissedEvents() throws Exception {
+        BlockingQueue<String> live = subscribe(null);
+        rename("First Edit");
+        rename("Second Edit");
+        relay();
+        String firstId = nextMatching(live, "id:").substring("id:".length());
+
+        BlockingQueue<String> replayed = subscribe(firstId);
+
+        assertTrue(nextMatching(replayed, "data:").contains("\"title\":\"Second Edit\""));
+    }
+
+    @Test
+    @DisplayName("Subscribe With Expired Last-Event-ID - Asks Client To Resync")
+    void subscribe_WithIdOlderThanLog_ShouldSendResync() throws Exception {
+        long before = taskEventStreamService.getPosition();
+        rename("Expired Edit");
+        rename("Later Edit");
+        relay();
+        jdbcTemplate.update("delete from task_events");
+
+        BlockingQueue<String> lines = subscribe(String.valueOf(before));
+
+        assertEquals("event:resync", nextMatching(lines, "event:"));
+    }
+
+    @Test
+    @DisplayName("Subscribe With Last-Event-ID - Replays Events Older Than The Channel From The Log")
+    void subscribe_WithIdOlderThanChannel_ShouldReplayFromLog() throws Exception {
+        long before = taskEventStreamService.getPosition();
+        rename("Logged Edit");
+        relay();
+
+        BlockingQueue<String> lines = subscribe(String.valueOf(before));
+
+        assertTrue(nextMatching(lines, "data:").contains("\"title\":\"Logged Edit\""));
+    }
+
+    @Test
+    @DisplayName("Subscribe With Last-Event-ID Ahead Of This Instance - Skips Events Already Sent")
+    void subscribe_WithIdAheadOfFeed_ShouldNotResendIt() throws Exception {
+        rename("Seen Elsewhere");
+        outboxRelay.drain();
+        // The client saw this event from an instance whose feed had already read it.
+        BlockingQueue<String> lines = subscribe(String.valueOf(taskEventLog.latestId()));
+
+        rename("Next Edit");
+        relay();
+
+        assertTrue(nextMatching(lines, "data:").contains("\"title\":\"Next Edit\""));
+    }
+
+    @Test
+    @DisplayName("Publish Without Subscribers - Keeps No Channel")
+    void publish_WithoutSubscribers_ShouldNotCreateChannel() {
+        rename("Unobserved Edit");
+        relay();
+
+        assertFalse(taskEventStreamService.hasChannel(project.getId()));
+    }
+
+    @Test
+    @DisplayName("Delete Project - Closes Streams and Drops the Channel")
+    void deleteProject_ShouldCompleteSubscribersAndDropChannel() throws Exception {
+        BlockingQueue<String> lines = subscribe(null);
+        assertTrue(taskEventStreamService.hasChannel(project.getId()));
+
+        taskRepository.deleteById(task.getId());
+        projectService.deleteProject(project.getId());
+        relay();
+
+        assertEquals(STREAM_END, nextMatching(lines, STREAM_END));
+        assertFalse(taskEventStreamService.hasChannel(project.getId()));
+    }
+
+    private BlockingQueue<String> subscribe(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/projects/" + project.getId() + "/events"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        // Headers are committed once the subscriber is registered, so events published from here on are delivered.
+        HttpResponse<Stream<String>> response = client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        openStreams.add(response.body());
+
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                response.body().forEach(lines::add);
+                lines.add(STREAM_END);
+            } catch (RuntimeException ignored) {
+                // Stream closed by the test.
+            }
+        });
+        return lines;
+    }
+
+    private void relay() {
+        outboxRelay.drain();
+        taskEventFeed.poll();
+    }
+
+    private void rename(String title) {
+        UpdateTaskRequestDto requestDto = new UpdateTaskRequestDto();
+        requestDto.setTitle(title);
+        taskService.updateTask(task.getId(), requestDto, null);
+    }
+
+    private static String nextMatching(BlockingQueue<String> lines, String prefix) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            String line = lines.poll(100, TimeUnit.MILLISECONDS);
+            if (line != null && line.startsWith(prefix)) {
+                return line;
+            }
+        }
+        return fail("No line starting with " + prefix + " within 5 seconds");
+    }
+}
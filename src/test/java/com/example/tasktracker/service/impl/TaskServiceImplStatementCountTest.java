@@ -0,0 +1,355 @@
+package com.example.tasktracker.service.impl;
+
+import com.example.tasktracker.dto.CursorPageDto;
+import com.example.tasktracker.dto.task.CreateTaskRequestDto;
+import com.example.tasktracker.dto.task.TaskBatchResultDto;
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.dto.task.TaskStatusChangeDto;
+import com.example.tasktracker.dto.task.UpdateTaskRequestDto;
+import com.example.tasktracker.dto.task.UpdateTaskStatusRequestDto;
+import com.example.tasktracker.model.*;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.TaskListPage;
+import com.example.tasktracker.repository.TaskListVersion;
+import com.example.tasktracker.repository.TaskRepository;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.tasktracker.service.impl.TaskServiceImplStatementCountTest$StatementRecorder"
+})
+class TaskServiceImplStatementCountTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private User manager;
+    private User assignee;
+    private Project project;
+    private Task task;
+    private Task secondTask;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        manager = userRepository.save(new User(uniqueEmail("manager"), "password", Role.MANAGER));
+        assignee = userRepository.save(new User(uniqueEmail("user"), "password", Role.USER));
+
+        project = new Project();
+        project.setName("Statement Count Project");
+        project.setOwner(manager);
+        project = projectRepository.save(project);
+
+        task = new Task();
+        task.setTitle("Existing Task");
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(project);
+        task.setAssignedUser(assignee);
+        task = taskRepository.save(task);
+
+        secondTask = new Task();
+        secondTask.setTitle("Second Task");
+        secondTask.setStatus(TaskStatus.TODO);
+        secondTask.setPriority(TaskPriority.LOW);
+        secondTask.setProject(project);
+        secondTask.setAssignedUser(assignee);
+        secondTask = taskRepository.save(secondTask);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Create Task - Project, Assignee and Insert")
+    void createTask_ShouldLoadProjectAndAssigneeThenInsert() {
+        authenticateAs(manager);
+        CreateTaskRequestDto requestDto = new CreateTaskRequestDto();
+        requestDto.setTitle("New Task");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.HIGH);
+        requestDto.setProjectId(project.getId());
+        requestDto.setAssignedUserId(assignee.getId());
+
+        assertStatements(3, () -> taskService.createTask(requestDto));
+    }
+
+    @Test
+    @DisplayName("Update Task - Task With Project, Assignee and Update")
+    void updateTask_ShouldCheckOwnershipWithoutLazyLoads() {
+        authenticateAs(manager);
+        UpdateTaskRequestDto requestDto = new UpdateTaskRequestDto();
+        requestDto.setTitle("Renamed Task");
+        requestDto.setAssignedUserId(assignee.getId());
+
+        assertStatements(3, () -> taskService.updateTask(task.getId(), requestDto, null));
+    }
+
+    @Test
+    @DisplayName("Update Task - Non-Owner Rejected After One Statement")
+    void updateTask_WhenUserIsNotOwner_ShouldRejectAfterSingleSelect() {
+        authenticateAs(assignee);
+        UpdateTaskRequestDto requestDto = new UpdateTaskRequestDto();
+        requestDto.setTitle("Renamed Task");
+
+        assertStatements(1, () -> assertThrows(AccessDeniedException.class,
+                () -> taskService.updateTask(task.getId(), requestDto, null)));
+    }
+
+    @Test
+    @DisplayName("Update Task Status - Task and Update")
+    void updateTaskStatus_ShouldLoadTaskThenUpdate() {
+        authenticateAs(assignee);
+        UpdateTaskStatusRequestDto requestDto = new UpdateTaskStatusRequestDto();
+        requestDto.setStatus(TaskStatus.DONE);
+
+        assertStatements(2, () -> taskService.updateTaskStatus(task.getId(), requestDto, null));
+    }
+
+    @Test
+    @DisplayName("Delete Task - Task With Project and Delete")
+    void deleteTask_ShouldCheckOwnershipWithoutLazyLoads() {
+        authenticateAs(manager);
+
+        assertStatements(2, () -> taskService.deleteTask(task.getId()));
+    }
+
+    @Test
+    @DisplayName("Create Tasks - Set-Based Lookups and One Batched Insert")
+    void createTasks_ShouldAuthorizeWithInListQueriesAndBatchInserts() {
+        authenticateAs(manager);
+        List<CreateTaskRequestDto> requestDtos = List.of(
+                createRequest("Batch Task 1"), createRequest("Batch Task 2"), createRequest("Batch Task 3"));
+
+        assertStatements(3, () -> {
+            List<TaskBatchResultDto> results = taskService.createTasks(requestDtos);
+            assertTrue(results.stream().allMatch(result -> result.getStatus() == 201));
+        });
+    }
+
+    @Test
+    @DisplayName("Update Task Statuses - One Select and One Batched Update")
+    void updateTaskStatuses_ShouldLoadInOneQueryAndBatchUpdates() {
+        authenticateAs(assignee);
+        List<TaskStatusChangeDto> changes = List.of(
+                statusChange(task.getId(), TaskStatus.DONE), statusChange(secondTask.getId(), TaskStatus.IN_PROGRESS));
+
+        assertStatements(2, () -> {
+            List<TaskBatchResultDto> results = taskService.updateTaskStatuses(changes);
+            assertTrue(results.stream().allMatch(result -> result.getStatus() == 200));
+        });
+    }
+
+    @Test
+    @DisplayName("Get Task By ID - Single Select")
+    void getTaskById_ShouldIssueSingleSelect() {
+        authenticateAs(assignee);
+
+        assertStatements(1, () -> taskService.getTaskById(task.getId()));
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Get Task Version - Version Columns Only")
+    void getTaskVersion_ShouldSelectVersionWithoutLoadingTask() {
+        authenticateAs(assignee);
+
+        assertStatements(1, () -> assertNotNull(taskService.getTaskVersion(task.getId()).updateDate()));
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Get Task List Version - Changes On Update And Delete")
+    void getTaskListVersion_ShouldChangeWhenFilteredTasksChange() {
+        authenticateAs(manager);
+        List<TaskListVersion> versions = new ArrayList<>();
+
+        assertStatements(1, () -> versions.add(taskService.getTaskListVersion(project.getId(), TaskStatus.TODO, null)));
+        assertEquals(2, versions.get(0).count());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        UpdateTaskRequestDto requestDto = new UpdateTaskRequestDto();
+        requestDto.setTitle("Renamed Task");
+        requestDto.setAssignedUserId(assignee.getId());
+        taskService.updateTask(task.getId(), requestDto, null);
+        versions.add(taskService.getTaskListVersion(project.getId(), TaskStatus.TODO, null));
+        taskService.deleteTask(task.getId());
+        versions.add(taskService.getTaskListVersion(project.getId(), TaskStatus.TODO, null));
+
+        assertEquals(3, versions.stream().distinct().count(), () -> "Versions: " + versions);
+        assertEquals(1, versions.get(2).count());
+    }
+
+    @Test
+    @DisplayName("Get All Tasks By Project - Projection and Count Without Entities")
+    void getAllTasksByProjectId_ShouldSelectDtosWithoutLoadingEntities() {
+        authenticateAs(assignee);
+
+        assertStatements(2, () -> {
+            TaskListPage result = taskService.getAllTasksByProjectId(
+                    project.getId(), TaskStatus.TODO, null, PageRequest.of(0, 1, Sort.by("title")), null);
+            Page<TaskResponseDto> page = result.tasks();
+            assertEquals(2, page.getTotalElements());
+            assertEquals(task.getId(), page.getContent().get(0).getId());
+            assertEquals(assignee.getId(), page.getContent().get(0).getAssignedUserId());
+            assertEquals(2, result.version().count());
+        });
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(StatementRecorder.STATEMENTS.stream().noneMatch(sql -> sql.contains(" join ")),
+                () -> "Unexpected join: " + StatementRecorder.STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Get All Tasks By Project - Whole List on One Page Needs No Version Query")
+    void getAllTasksByProjectId_WhenPageHoldsWholeList_ShouldDeriveVersionFromPage() {
+        authenticateAs(assignee);
+        TaskListVersion expected = taskService.getTaskListVersion(project.getId(), TaskStatus.TODO, null);
+        List<TaskListPage> results = new ArrayList<>();
+
+        assertStatements(1, () -> results.add(taskService.getAllTasksByProjectId(
+                project.getId(), TaskStatus.TODO, null, PageRequest.of(0, 10), null)));
+        assertEquals(2, results.get(0).tasks().getTotalElements());
+        assertEquals(expected, results.get(0).version());
+
+        assertStatements(1, () -> taskService.getAllTasksByProjectId(
+                project.getId(), TaskStatus.TODO, null, PageRequest.of(0, 1), expected));
+    }
+
+    @Test
+    @DisplayName("Get Tasks By Project After - Seeks Without Count Query")
+    void getTasksByProjectIdAfter_ShouldWalkPagesWithSingleSelectEach() {
+        authenticateAs(assignee);
+        List<Long> seen = new ArrayList<>();
+
+        assertStatements(1, () -> {
+            CursorPageDto<TaskResponseDto> firstPage =
+                    taskService.getTasksByProjectIdAfter(project.getId(), null, null, "title", "asc", null, 1);
+            assertTrue(firstPage.isHasNext());
+            firstPage.getContent().forEach(dto -> seen.add(dto.getId()));
+
+            StatementRecorder.STATEMENTS.clear();
+            statistics.clear();
+            CursorPageDto<TaskResponseDto> secondPage = taskService.getTasksByProjectIdAfter(
+                    project.getId(), null, null, "createDate", "desc", firstPage.getNextCursor(), 1);
+            assertFalse(secondPage.isHasNext());
+            assertNull(secondPage.getNextCursor());
+            secondPage.getContent().forEach(dto -> seen.add(dto.getId()));
+        });
+
+        assertEquals(List.of(task.getId(), secondTask.getId()), seen);
+    }
+
+    @Test
+    @DisplayName("Get Tasks By Project After - Null Sort Keys Sort As Largest")
+    void getTasksByProjectIdAfter_WithNullSortKey_ShouldWalkEveryTask() {
+        authenticateAs(assignee);
+        jdbcTemplate.update("update tasks set update_date = null where id = ?", secondTask.getId());
+
+        for (String direction : List.of("asc", "desc")) {
+            List<Long> seen = new ArrayList<>();
+            CursorPageDto<TaskResponseDto> page =
+                    taskService.getTasksByProjectIdAfter(project.getId(), null, null, "updateDate", direction, null, 1);
+            page.getContent().forEach(dto -> seen.add(dto.getId()));
+            while (page.isHasNext()) {
+                page = taskService.getTasksByProjectIdAfter(project.getId(), null, null, null, null, page.getNextCursor(), 1);
+                page.getContent().forEach(dto -> seen.add(dto.getId()));
+            }
+            List<Long> expected = direction.equals("asc")
+                    ? List.of(task.getId(), secondTask.getId())
+                    : List.of(secondTask.getId(), task.getId());
+            assertEquals(expected, seen, direction);
+        }
+    }
+
+    private void assertStatements(long expected, Runnable action) {
+        statistics.clear();
+        StatementRecorder.STATEMENTS.clear();
+        action.run();
+        // Sequence round trips are amortised over the id pool, so they are excluded from the count.
+        long sequenceCalls = StatementRecorder.STATEMENTS.stream()
+                .filter(sql -> sql.contains("next value for"))
+                .count();
+        assertEquals(expected, statistics.getPrepareStatementCount() - sequenceCalls,
+                () -> "Statements: " + StatementRecorder.STATEMENTS);
+    }
+
+    private CreateTaskRequestDto createRequest(String title) {
+        CreateTaskRequestDto requestDto = new CreateTaskRequestDto();
+        requestDto.setTitle(title);
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        requestDto.setProjectId(project.getId());
+        requestDto.setAssignedUserId(assignee.getId());
+        return requestDto;
+    }
+
+    private static TaskStatusChangeDto statusChange(Long taskId, TaskStatus status) {
+        TaskStatusChangeDto change = new TaskStatusChangeDto();
+        change.setTaskId(taskId);
+        change.setStatus(status);
+        return change;
+    }
+
+    private static void authenticateAs(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static String uniqueEmail(String prefix) {
+        return prefix + "-" + UUID.randomUUID() + "@example.com";
+    }
+
+    public static class StatementRecorder implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
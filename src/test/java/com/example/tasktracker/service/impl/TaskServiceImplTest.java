@@ -1,8 +1,11 @@
 package com.example.tasktracker.service.impl;
 
 import com.example.tasktracker.dto.task.CreateTaskRequestDto;
+import com.example.tasktracker.dto.task.TaskResponseDto;
 import com.example.tasktracker.dto.task.UpdateTaskStatusRequestDto;
+import com.example.tasktracker.event.TaskChangedEvent;
 import com.example.tasktracker.exception.EntityNotFoundException;
+import com.example.tasktracker.exception.PreconditionFailedException;
 import com.example.tasktracker.mapper.TaskMapper;
 import com.example.tasktracker.model.*;
 import com.example.tasktracker.repository.ProjectRepository;
@@ -16,13 +19,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,6 +48,10 @@ class TaskServiceImplTest {
     private TaskMapper taskMapper;
     @Mock
     private SecurityUtils securityUtils; 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private TaskServiceImpl taskService;
@@ -47,6 +60,7 @@ class TaskServiceImplTest {
     private User assignedUser;
     private Project project;
     private Task task;
+    private TaskResponseDto taskResponseDto;
 
     @BeforeEach
     void setUp() {
@@ -67,6 +81,10 @@ class TaskServiceImplTest {
         task.setTitle("Test Task");
         task.setProject(project);
         task.setAssignedUser(assignedUser); 
+
+        taskResponseDto = new TaskResponseDto();
+        taskResponseDto.setId(task.getId());
+        taskResponseDto.setProjectId(project.getId());
     }
 
     @Test
@@ -77,6 +95,7 @@ class TaskServiceImplTest {
         when(projectRepository.findById(anyLong())).thenReturn(Optional.of(project));
         when(taskMapper.toModel(any())).thenReturn(new Task());
         when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskMapper.toDto(task)).thenReturn(taskResponseDto);
 
         CreateTaskRequestDto requestDto = new CreateTaskRequestDto();
         requestDto.setProjectId(project.getId());
@@ -84,6 +103,7 @@ class TaskServiceImplTest {
         
         assertDoesNotThrow(() -> taskService.createTask(requestDto));
         verify(taskRepository).save(any(Task.class));
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
@@ -108,21 +128,78 @@ class TaskServiceImplTest {
     @DisplayName("Update Task Status - Success by Assigned User")
     void updateTaskStatus_WhenUserIsAssigned_ShouldUpdateStatus() {
         
+        runTransactionsInline();
         when(securityUtils.getCurrentUser()).thenReturn(assignedUser); 
         when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(task);
+        when(taskMapper.toDto(task)).thenReturn(taskResponseDto);
 
         UpdateTaskStatusRequestDto requestDto = new UpdateTaskStatusRequestDto();
         requestDto.setStatus(TaskStatus.IN_PROGRESS);
 
-        assertDoesNotThrow(() -> taskService.updateTaskStatus(task.getId(), requestDto));
-        verify(taskRepository).save(task);
+        assertDoesNotThrow(() -> taskService.updateTaskStatus(task.getId(), requestDto, null));
+        verify(taskRepository).saveAndFlush(task);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
         assertEquals(TaskStatus.IN_PROGRESS, task.getStatus());
     }
 
+    @Test
+    @DisplayName("Update Task Status - Retried After Concurrent Modification")
+    void updateTaskStatus_WhenConcurrentlyModified_ShouldRetryOnFreshRow() {
+        runTransactionsInline();
+        when(securityUtils.getCurrentUser()).thenReturn(assignedUser);
+        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(any(Task.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, task.getId()))
+                .thenReturn(task);
+        when(taskMapper.toDto(task)).thenReturn(taskResponseDto);
+
+        UpdateTaskStatusRequestDto requestDto = new UpdateTaskStatusRequestDto();
+        requestDto.setStatus(TaskStatus.DONE);
+
+        assertDoesNotThrow(() -> taskService.updateTaskStatus(task.getId(), requestDto, null));
+        verify(taskRepository, times(2)).findById(task.getId());
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Update Task Status - Conflict Not Retried With If-Match")
+    void updateTaskStatus_WhenVersionPinnedAndConcurrentlyModified_ShouldThrowConflict() {
+        runTransactionsInline();
+        task.setVersion(1L);
+        when(securityUtils.getCurrentUser()).thenReturn(assignedUser);
+        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(any(Task.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, task.getId()));
+
+        UpdateTaskStatusRequestDto requestDto = new UpdateTaskStatusRequestDto();
+        requestDto.setStatus(TaskStatus.DONE);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> taskService.updateTaskStatus(task.getId(), requestDto, 1L));
+        verify(taskRepository, times(1)).findById(task.getId());
+    }
+
+    @Test
+    @DisplayName("Update Task Status - Failure (Stale If-Match Version)")
+    void updateTaskStatus_WhenVersionIsStale_ShouldThrowPreconditionFailed() {
+        runTransactionsInline();
+        task.setVersion(2L);
+        when(securityUtils.getCurrentUser()).thenReturn(assignedUser);
+        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task));
+
+        UpdateTaskStatusRequestDto requestDto = new UpdateTaskStatusRequestDto();
+        requestDto.setStatus(TaskStatus.DONE);
+
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.updateTaskStatus(task.getId(), requestDto, 1L));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
+
     @Test
     @DisplayName("Update Task Status - Failure by Different User")
     void updateTaskStatus_WhenUserIsNotAssigned_ShouldThrowAccessDenied() {
+        runTransactionsInline();
         when(securityUtils.getCurrentUser()).thenReturn(manager); 
         when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task));
 
@@ -132,7 +209,7 @@ class TaskServiceImplTest {
         
         AccessDeniedException exception = assertThrows(
                 AccessDeniedException.class,
-                () -> taskService.updateTaskStatus(task.getId(), requestDto)
+                () -> taskService.updateTaskStatus(task.getId(), requestDto, null)
         );
         assertEquals("Only the assigned user can update the task status.", exception.getMessage());
     }
@@ -142,7 +219,7 @@ class TaskServiceImplTest {
     void getTaskById_WhenTaskDoesNotExist_ShouldThrowEntityNotFoundException() {
         
         long nonExistentId = 999L;
-        when(taskRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(taskRepository.findResponseDtoById(nonExistentId)).thenReturn(Optional.empty());
 
         
         assertThrows(
@@ -150,4 +227,9 @@ class TaskServiceImplTest {
             () -> taskService.getTaskById(nonExistentId)
         );
     }
-}
\ No newline at end of file
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
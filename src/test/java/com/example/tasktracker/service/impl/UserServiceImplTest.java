@@ -1,13 +1,18 @@
 package com.example.tasktracker.service.impl;
 
 import com.example.tasktracker.dto.user.UserLoginRequestDto;
+import com.example.tasktracker.dto.user.UserLoginResponseDto;
 import com.example.tasktracker.dto.user.UserRegistrationRequestDto;
 import com.example.tasktracker.exception.RegistrationException;
+import com.example.tasktracker.exception.TooManyRequestsException;
 import com.example.tasktracker.mapper.UserMapper;
 import com.example.tasktracker.model.Role;
 import com.example.tasktracker.model.User;
 import com.example.tasktracker.repository.UserRepository;
-import com.example.tasktracker.security.JwtService;
+import com.example.tasktracker.security.LoginAttemptLimiter;
+import com.example.tasktracker.security.LoginExecutor;
+import com.example.tasktracker.service.RefreshTokenService;
+import com.example.tasktracker.util.SecurityUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,13 +22,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,9 +46,15 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
-    private JwtService jwtService;
+    private RefreshTokenService refreshTokenService;
     @Mock
     private AuthenticationManager authenticationManager; 
+    @Mock
+    private SecurityUtils securityUtils;
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+    @Mock
+    private LoginExecutor loginExecutor;
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -102,14 +117,19 @@ class UserServiceImplTest {
         loginRequest.setEmail("test@example.com");
         loginRequest.setPassword("password123");
 
-        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(user));
+        runLoginInline();
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
 
-        when(jwtService.generateToken(user)).thenReturn("dummy.jwt.token");
+        when(refreshTokenService.issueTokens(user)).thenReturn(new UserLoginResponseDto("dummy.jwt.token", "refresh", 900));
 
-        String token = userService.login(loginRequest).getToken();
+        String token = userService.login(loginRequest, "127.0.0.1").getToken();
 
 
         verify(authenticationManager).authenticate(any());
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(loginAttemptLimiter).reserveAttempt("test@example.com", "127.0.0.1");
+        verify(loginAttemptLimiter).recordSuccess("test@example.com", "127.0.0.1");
         
         assertEquals("dummy.jwt.token", token);
     }
@@ -122,11 +142,69 @@ class UserServiceImplTest {
         loginRequest.setEmail("test@example.com");
         loginRequest.setPassword("wrongpassword");
 
+        runLoginInline();
         when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Invalid credentials"));
 
         assertThrows(
                 BadCredentialsException.class,
-                () -> userService.login(loginRequest)
+                () -> userService.login(loginRequest, "127.0.0.1")
+        );
+        verify(loginAttemptLimiter).reserveAttempt("test@example.com", "127.0.0.1");
+        verify(loginAttemptLimiter, never()).releaseAttempt(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Login - Releases The Attempt When The Password Was Not Checked")
+    void login_WhenExecutorRejects_ShouldReleaseAttempt() {
+
+        UserLoginRequestDto loginRequest = new UserLoginRequestDto();
+        loginRequest.setEmail("test@example.com");
+        loginRequest.setPassword("password123");
+
+        when(loginExecutor.execute(any()))
+                .thenThrow(new TooManyRequestsException("Too many concurrent login attempts. Try again shortly.", 1));
+
+        assertThrows(
+                TooManyRequestsException.class,
+                () -> userService.login(loginRequest, "127.0.0.1")
         );
+        verify(loginAttemptLimiter).releaseAttempt("test@example.com", "127.0.0.1");
+        verify(loginAttemptLimiter, never()).recordSuccess(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Login - Throttled Before Any Authentication Work")
+    void login_WhenThrottled_ShouldNotAuthenticate() {
+
+        UserLoginRequestDto loginRequest = new UserLoginRequestDto();
+        loginRequest.setEmail("Test@Example.com");
+        loginRequest.setPassword("password123");
+
+        doThrow(new TooManyRequestsException("Too many failed login attempts. Try again later.", 60))
+                .when(loginAttemptLimiter).reserveAttempt("test@example.com", "127.0.0.1");
+
+        assertThrows(
+                TooManyRequestsException.class,
+                () -> userService.login(loginRequest, "127.0.0.1")
+        );
+        verify(loginExecutor, never()).execute(any());
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    private void runLoginInline() {
+        when(loginExecutor.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    @DisplayName("Logout - Revokes Issued Tokens")
+    void logout_WhenUserIsAuthenticated_ShouldIncrementTokenVersion() {
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        int previousVersion = user.getTokenVersion();
+
+        userService.logout();
+
+        assertEquals(previousVersion + 1, user.getTokenVersion());
+        verify(refreshTokenService).revokeAll(user.getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.example.tasktracker.stats;
+
+import com.example.tasktracker.dto.project.ProjectStatsDto;
+import com.example.tasktracker.dto.task.CreateTaskRequestDto;
+import com.example.tasktracker.dto.task.TaskResponseDto;
+import com.example.tasktracker.dto.task.UpdateTaskRequestDto;
+import com.example.tasktracker.model.*;
+import com.example.tasktracker.repository.ProjectRepository;
+import com.example.tasktracker.repository.UserRepository;
+import com.example.tasktracker.service.ProjectStatsService;
+import com.example.tasktracker.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskstatswritertest",
+        // The JCache manager is JVM-wide, so a private database must not share second-level cache regions.
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "app.stats.reconcile-interval-ms=3600000"
+})
+class TaskStatsWriterTest {
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User manager = userRepository.save(new User("manager-" + UUID.randomUUID() + "@example.com", "password", Role.MANAGER));
+        project = new Project();
+        project.setName("Stats Project");
+        project.setOwner(manager);
+        project = projectRepository.save(project);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Task Stats - Task Writes Update The Counters")
+    void taskWrites_ShouldUpdateCounters() {
+        TaskResponseDto first = createTask(TaskStatus.TODO, LocalDate.now().minusDays(2));
+        createTask(TaskStatus.IN_PROGRESS, LocalDate.now().plusDays(2));
+        TaskResponseDto third = createTask(TaskStatus.TODO, null);
+
+        ProjectStatsDto stats = projectStatsService.getProjectStats(project.getId());
+        assertEquals(3, stats.getTotal());
+        assertEquals(2, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(3, stats.getByPriority().get(TaskPriority.MEDIUM));
+        assertEquals(1, stats.getOverdue());
+
+        UpdateTaskRequestDto update = new UpdateTaskRequestDto();
+        update.setStatus(TaskStatus.DONE);
+        taskService.updateTask(first.getId(), update, null);
+        taskService.deleteTask(third.getId());
+
+        stats = projectStatsService.getProjectStats(project.getId());
+        assertEquals(2, stats.getTotal());
+        assertEquals(0, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(1, stats.getByStatus().get(TaskStatus.DONE));
+        assertEquals(0, stats.getOverdue());
+    }
+
+    @Test
+    @DisplayName("Task Stats - Rolled Back Writes Are Not Counted")
+    void rolledBackWrite_ShouldLeaveCountersUnchanged() {
+        createTask(TaskStatus.TODO, null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            createTask(TaskStatus.TODO, null);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, projectStatsService.getProjectStats(project.getId()).getTotal());
+    }
+
+    @Test
+    @DisplayName("Reconcile - Counts Tasks Written Around The Service Once")
+    void reconcile_WithTaskInsertedDirectly_ShouldCountItOnce() {
+        createTask(TaskStatus.TODO, null);
+        jdbcTemplate.update("insert into tasks (id, title, status, priority, due_date, project_id) "
+                        + "values (next value for tasks_seq, 'Seeded', 'TODO', 'HIGH', ?, ?)",
+                LocalDate.now().minusDays(1), project.getId());
+        assertEquals(1, projectStatsService.getProjectStats(project.getId()).getTotal());
+
+        projectStatsService.reconcile();
+        projectStatsService.reconcile();
+
+        ProjectStatsDto stats = projectStatsService.getProjectStats(project.getId());
+        assertEquals(2, stats.getTotal());
+        assertEquals(1, stats.getByPriority().get(TaskPriority.HIGH));
+        assertEquals(1, stats.getOverdue());
+    }
+
+    private TaskResponseDto createTask(TaskStatus status, LocalDate dueDate) {
+        CreateTaskRequestDto request = new CreateTaskRequestDto();
+        request.setTitle("Stats task");
+        request.setStatus(status);
+        request.setPriority(TaskPriority.MEDIUM);
+        request.setDueDate(dueDate);
+        request.setProjectId(project.getId());
+        return taskService.createTask(request);
+    }
+}